@@ -44,6 +44,7 @@ public class SecurityConfig {
                         .pathMatchers("/api/events/swagger-ui.html", "/api/events/swagger-ui/**", "/api/events/api-docs/**", "/api/events/v3/api-docs/**").permitAll()
                         .pathMatchers("/api/resources/webjars/**", "/api/goals/webjars/**", "/api/events/webjars/**").permitAll()
 
+                        .pathMatchers("/api/goals/export").hasRole("staff")
                         .pathMatchers("/api/goals/**").hasRole("student")
                         .pathMatchers("/api/events/*/register").hasRole("student")
                         .pathMatchers("/api/events/*/unregister").hasRole("student")
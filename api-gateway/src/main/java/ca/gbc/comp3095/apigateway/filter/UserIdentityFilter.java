@@ -0,0 +1,45 @@
+package ca.gbc.comp3095.apigateway.filter;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Forwards the subject of the caller's JWT to downstream services as {@code X-User-Id}.
+ * Any {@code X-User-Id} sent by the client is removed first, so services can trust the header.
+ */
+@Component
+public class UserIdentityFilter implements GlobalFilter, Ordered {
+
+    public static final String USER_ID_HEADER = "X-User-Id";
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        return exchange.getPrincipal()
+                .filter(JwtAuthenticationToken.class::isInstance)
+                .map(principal -> ((JwtAuthenticationToken) principal).getToken().getSubject())
+                .map(subject -> withUserId(exchange, subject))
+                .defaultIfEmpty(withUserId(exchange, null))
+                .flatMap(chain::filter);
+    }
+
+    private static ServerWebExchange withUserId(ServerWebExchange exchange, String subject) {
+        return exchange.mutate()
+                .request(request -> request.headers(headers -> {
+                    headers.remove(USER_ID_HEADER);
+                    if (subject != null) {
+                        headers.set(USER_ID_HEADER, subject);
+                    }
+                }))
+                .build();
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -30,3 +30,48 @@ CREATE TABLE IF NOT EXISTS t_resource_popularity (
     goal_completion_count INTEGER DEFAULT 0,
     last_updated TIMESTAMP
 );
+
+-- Per-resource view counts used for popularity ranking
+CREATE TABLE IF NOT EXISTS t_resource_view_count (
+    resource_id BIGINT PRIMARY KEY,
+    view_count BIGINT DEFAULT 0,
+    last_updated TIMESTAMP
+);
+
+-- Category taxonomy stored as a closure table (one row per ancestor/descendant pair)
+CREATE TABLE IF NOT EXISTS t_category_closure (
+    ancestor VARCHAR(100) NOT NULL,
+    descendant VARCHAR(100) NOT NULL,
+    depth INTEGER NOT NULL,
+    PRIMARY KEY (ancestor, descendant)
+);
+
+CREATE INDEX IF NOT EXISTS idx_category_closure_descendant ON t_category_closure (descendant, depth);
+
+-- Case-insensitive category lookups used by subtree queries
+CREATE INDEX IF NOT EXISTS idx_wellness_resource_category_lower ON t_wellness_resource (lower(category));
+
+-- Append-only goal completion history, range-partitioned by month.
+-- Monthly partitions are created and dropped by the service at runtime.
+CREATE TABLE IF NOT EXISTS goal_completion_history (
+    goal_id VARCHAR(64),
+    title VARCHAR(255),
+    category VARCHAR(100),
+    target_date DATE,
+    completed_at TIMESTAMP NOT NULL
+) PARTITION BY RANGE (completed_at);
+
+CREATE TABLE IF NOT EXISTS goal_completion_history_default
+    PARTITION OF goal_completion_history DEFAULT;
+
+-- Categories are matched case-insensitively, so the index is on lower(category)
+CREATE INDEX IF NOT EXISTS idx_goal_completion_history_lower_category
+    ON goal_completion_history (lower(category), completed_at);
+
+-- Pre-aggregated completions per category per day
+CREATE TABLE IF NOT EXISTS goal_completion_daily_rollup (
+    day DATE NOT NULL,
+    category VARCHAR(100) NOT NULL,
+    completions BIGINT NOT NULL,
+    PRIMARY KEY (day, category)
+);
@@ -33,7 +33,8 @@ public class GoalTrackingClient {
             WebClient webClient = webClientBuilder.baseUrl(goalTrackingServiceUrl).build();
             
             return webClient.get()
-                    .uri("/api/goals/category/{category}", category)
+                    // related-goals returns the description too, which the summary view leaves out
+                    .uri("/api/goals/category/{category}?view=full", category)
                     .retrieve()
                     .bodyToMono(new ParameterizedTypeReference<List<GoalTracking>>() {})
                     .doOnSuccess(goals -> log.info("Successfully retrieved {} goals for category: {}", 
@@ -1,6 +1,9 @@
 package ca.gbc.comp3095.eventservice.config;
 
+import ca.gbc.comp3095.eventservice.event.FileSchemaRegistry;
 import ca.gbc.comp3095.eventservice.event.GoalCompletedEvent;
+import ca.gbc.comp3095.eventservice.event.GoalCompletedEventAvroCodec;
+import ca.gbc.comp3095.eventservice.event.GoalCompletedEventDeserializer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,6 +15,7 @@ import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -22,13 +26,19 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
     private String bootstrapServers;
 
+    // Avro events are always decoded; JSON is accepted until every producer has switched over
+    @Value("${events.goal-events.accept-json:true}")
+    private boolean acceptJson;
+
+    @Value("${events.goal-events.schema-registry-dir}")
+    private Path schemaRegistryDir;
+
     @Bean
     public ConsumerFactory<String, GoalCompletedEvent> consumerFactory() {
         Map<String, Object> config = new HashMap<>();
         config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         config.put(ConsumerConfig.GROUP_ID_CONFIG, "event-service-group");
         config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
         config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
         config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, GoalCompletedEvent.class);
         config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
@@ -36,7 +46,10 @@ public class KafkaConsumerConfig {
         return new DefaultKafkaConsumerFactory<>(
                 config,
                 new StringDeserializer(),
-                new JsonDeserializer<>(GoalCompletedEvent.class, false)
+                new GoalCompletedEventDeserializer(
+                        new GoalCompletedEventAvroCodec(new FileSchemaRegistry(schemaRegistryDir)),
+                        new JsonDeserializer<>(GoalCompletedEvent.class, false),
+                        acceptJson)
         );
     }
 
@@ -0,0 +1,41 @@
+package ca.gbc.comp3095.eventservice.event;
+
+import org.apache.avro.Schema;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Read side of the directory-based schema registry that goal-tracking-service registers
+ * its event schemas in; schemas are stored as {@code <subject>/<id>.avsc}.
+ */
+public class FileSchemaRegistry {
+
+    private final Path directory;
+    private final Map<Integer, Schema> schemasById = new ConcurrentHashMap<>();
+
+    public FileSchemaRegistry(Path directory) {
+        this.directory = directory;
+    }
+
+    public Schema getById(int id) {
+        return schemasById.computeIfAbsent(id, this::load);
+    }
+
+    private Schema load(int id) {
+        try (Stream<Path> subjects = Files.list(directory)) {
+            Path file = subjects.map(subject -> subject.resolve(id + ".avsc"))
+                    .filter(Files::exists)
+                    .findFirst()
+                    .orElseThrow(() -> new SerializationException("Unknown schema id: " + id));
+            return new Schema.Parser().parse(file.toFile());
+        } catch (IOException e) {
+            throw new SerializationException("Could not read schema id: " + id, e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package ca.gbc.comp3095.eventservice.event;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.util.Utf8;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decodes Avro encoded {@link GoalCompletedEvent}s written by goal-tracking-service.
+ * <p>
+ * Messages are framed as a zero magic byte and a 4-byte schema id, followed by the Avro body.
+ * The writer's schema is looked up by id and resolved against the schema bundled here.
+ */
+public class GoalCompletedEventAvroCodec {
+
+    public static final byte MAGIC_BYTE = 0x0;
+    private static final int HEADER_LENGTH = 5;
+    // Decoders keep internal buffers, so each consumer thread reuses its own
+    private static final ThreadLocal<BinaryDecoder> DECODERS = new ThreadLocal<>();
+
+    private final Schema schema;
+    private final FileSchemaRegistry registry;
+    private final Map<Integer, GenericDatumReader<GenericRecord>> readersBySchemaId = new ConcurrentHashMap<>();
+
+    public GoalCompletedEventAvroCodec(FileSchemaRegistry registry) {
+        this.schema = loadSchema();
+        this.registry = registry;
+    }
+
+    public GoalCompletedEvent decode(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        if (data.length < HEADER_LENGTH || buffer.get() != MAGIC_BYTE) {
+            throw new SerializationException("Not an Avro framed message");
+        }
+        int writerSchemaId = buffer.getInt();
+        // Resolves the writer's schema against ours, so events written with other compatible versions still decode
+        GenericDatumReader<GenericRecord> reader = readersBySchemaId.computeIfAbsent(writerSchemaId,
+                id -> new GenericDatumReader<>(registry.getById(id), schema));
+        BinaryDecoder decoder = DecoderFactory.get()
+                .binaryDecoder(data, HEADER_LENGTH, data.length - HEADER_LENGTH, DECODERS.get());
+        DECODERS.set(decoder);
+        try {
+            GenericRecord record = reader.read(null, decoder);
+            Integer targetDate = (Integer) record.get("targetDate");
+            Long completedAt = (Long) record.get("completedAt");
+            return GoalCompletedEvent.builder()
+                    .goalId(asString(record.get("goalId")))
+                    .title(asString(record.get("title")))
+                    .category(asString(record.get("category")))
+                    .targetDate(targetDate != null ? LocalDate.ofEpochDay(targetDate) : null)
+                    .completedAt(completedAt != null
+                            ? LocalDateTime.ofEpochSecond(Math.floorDiv(completedAt, 1000),
+                            (int) Math.floorMod(completedAt, 1000) * 1_000_000, ZoneOffset.UTC)
+                            : null)
+                    .eventType(asString(record.get("eventType")))
+                    .build();
+        } catch (IOException e) {
+            throw new SerializationException("Could not decode event with schema id: " + writerSchemaId, e);
+        }
+    }
+
+    private static String asString(Object value) {
+        return value instanceof Utf8 || value instanceof CharSequence ? value.toString() : null;
+    }
+
+    private static Schema loadSchema() {
+        try (InputStream in = GoalCompletedEventAvroCodec.class.getResourceAsStream("/avro/goal-completed-event.avsc")) {
+            return new Schema.Parser().parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load GoalCompletedEvent schema", e);
+        }
+    }
+}
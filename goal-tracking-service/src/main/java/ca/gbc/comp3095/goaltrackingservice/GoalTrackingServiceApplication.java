@@ -3,9 +3,11 @@ package ca.gbc.comp3095.goaltrackingservice;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableAspectJAutoProxy
+@EnableScheduling
 public class GoalTrackingServiceApplication {
 
     public static void main(String[] args) {
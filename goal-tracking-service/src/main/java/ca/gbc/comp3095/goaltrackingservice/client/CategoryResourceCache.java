@@ -0,0 +1,90 @@
+package ca.gbc.comp3095.goaltrackingservice.client;
+
+import ca.gbc.comp3095.goaltrackingservice.dto.WellnessResource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, least-recently-used cache of wellness resources by category.
+ * <p>
+ * Entries are fresh for {@code wellness.resource.cache.ttl}. After that they are only served
+ * while a refresh is in flight or wellness-resource-service is failing, and are dropped
+ * once older than {@code wellness.resource.cache.max-stale}.
+ */
+@Component
+public class CategoryResourceCache {
+
+    private record Entry(List<WellnessResource> resources, long loadedAtNanos) {
+    }
+
+    private final Duration ttl;
+    private final Duration maxStale;
+    private final LongSupplier nanoTime;
+    private final Map<String, Entry> entries;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public CategoryResourceCache(@Value("${wellness.resource.cache.ttl:60s}") Duration ttl,
+                                 @Value("${wellness.resource.cache.max-stale:1h}") Duration maxStale,
+                                 @Value("${wellness.resource.cache.max-entries:500}") int maxEntries) {
+        this(ttl, maxStale, maxEntries, System::nanoTime);
+    }
+
+    // Tests pass their own clock to age entries without waiting
+    CategoryResourceCache(Duration ttl, Duration maxStale, int maxEntries, LongSupplier nanoTime) {
+        this.ttl = ttl;
+        this.maxStale = maxStale;
+        this.nanoTime = nanoTime;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public Optional<List<WellnessResource>> getFresh(String category) {
+        return get(category, ttl);
+    }
+
+    public Optional<List<WellnessResource>> getStale(String category) {
+        return get(category, maxStale);
+    }
+
+    public void put(String category, List<WellnessResource> resources) {
+        entries.put(normalize(category), new Entry(List.copyOf(resources), nanoTime.getAsLong()));
+    }
+
+    // Lets only one caller refresh a given category at a time
+    public boolean startRefresh(String category) {
+        return refreshing.add(normalize(category));
+    }
+
+    public void finishRefresh(String category) {
+        refreshing.remove(normalize(category));
+    }
+
+    private Optional<List<WellnessResource>> get(String category, Duration maxAge) {
+        String key = normalize(category);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        long age = nanoTime.getAsLong() - entry.loadedAtNanos();
+        if (age > maxStale.toNanos()) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+        return age <= maxAge.toNanos() ? Optional.of(entry.resources()) : Optional.empty();
+    }
+
+    private static String normalize(String category) {
+        return category.toLowerCase(Locale.ROOT);
+    }
+}
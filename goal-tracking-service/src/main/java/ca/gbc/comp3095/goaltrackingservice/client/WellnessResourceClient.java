@@ -24,24 +24,41 @@ import java.util.List;
 public class WellnessResourceClient {
 
     private final WebClient.Builder webClientBuilder;
+    private final CategoryResourceCache categoryResourceCache;
 
     @Value("${wellness.resource.service.url}")
     private String wellnessResourceServiceUrl;
 
     @CircuitBreaker(name = "wellnessResourceService", fallbackMethod = "getResourcesByCategoryFallback")
     public List<WellnessResource> getResourcesByCategory(String category) {
-        log.info("Calling wellness-resource-service to get resources for category: {}", category);
-        
+        return requestResourcesByCategory(category).block();
+    }
+
+    /**
+     * Non-blocking variant of {@link #getResourcesByCategory(String)}: no thread waits on the
+     * downstream call, and the same circuit breaker and cache fallback apply.
+     */
+    @CircuitBreaker(name = "wellnessResourceService", fallbackMethod = "getResourcesByCategoryReactiveFallback")
+    public Mono<List<WellnessResource>> getResourcesByCategoryReactive(String category) {
+        return requestResourcesByCategory(category);
+    }
+
+    private Mono<List<WellnessResource>> requestResourcesByCategory(String category) {
         WebClient webClient = webClientBuilder.baseUrl(wellnessResourceServiceUrl).build();
-        
-        return webClient.get()
-                .uri("/api/resources/category/{category}", category)
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<List<WellnessResource>>() {})
-                .doOnSuccess(resources -> log.info("Successfully retrieved {} resources for category: {}", 
-                        resources != null ? resources.size() : 0, category))
-                .doOnError(error -> log.error("Error calling wellness-resource-service for category: {}", category, error))
-                .block();
+
+        return Mono.defer(() -> {
+                    log.info("Calling wellness-resource-service to get resources for category: {}", category);
+                    return webClient.get()
+                            .uri("/api/resources/category/{category}", category)
+                            .retrieve()
+                            .bodyToMono(new ParameterizedTypeReference<List<WellnessResource>>() {});
+                })
+                .defaultIfEmpty(List.of())
+                .doOnSuccess(resources -> {
+                    log.info("Successfully retrieved {} resources for category: {}", resources.size(), category);
+                    categoryResourceCache.put(category, resources);
+                })
+                .doOnError(error -> log.error("Error calling wellness-resource-service for category: {}", category, error));
     }
 
     @CircuitBreaker(name = "wellnessResourceService", fallbackMethod = "getAllResourcesFallback")
@@ -82,8 +99,17 @@ public class WellnessResourceClient {
                     ex.getClass().getSimpleName(), ex.getMessage());
         }
         
-        // Return default/cached response
-        return Collections.emptyList();
+        // Return stale cached response if there is one, otherwise an empty list
+        return categoryResourceCache.getStale(category)
+                .map(resources -> {
+                    log.info("Serving {} stale cached resources for category: {}", resources.size(), category);
+                    return resources;
+                })
+                .orElse(Collections.emptyList());
+    }
+
+    public Mono<List<WellnessResource>> getResourcesByCategoryReactiveFallback(String category, Throwable ex) {
+        return Mono.just(getResourcesByCategoryFallback(category, ex));
     }
 
     public List<WellnessResource> getAllResourcesFallback(Throwable ex) {
@@ -1,15 +1,22 @@
 package ca.gbc.comp3095.goaltrackingservice.config;
 
+import ca.gbc.comp3095.goaltrackingservice.event.FileSchemaRegistry;
+import ca.gbc.comp3095.goaltrackingservice.event.GoalCompletedEventAvroCodec;
+import ca.gbc.comp3095.goaltrackingservice.event.GoalCompletedEventAvroSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -19,18 +26,63 @@ public class KafkaProducerConfig {
     @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
     private String bootstrapServers;
 
+    // throughput: larger, compressed batches for completion bursts; latency: send immediately
+    @Value("${goals.kafka.producer.profile:throughput}")
+    private String profile;
+
+    // json while consumers are migrated, then avro; consumers decode both
+    @Value("${goals.events.format:json}")
+    private String format;
+
+    @Value("${goals.events.schema-registry-dir}")
+    private Path schemaRegistryDir;
+
+    @Bean
+    public GoalCompletedEventAvroCodec goalCompletedEventAvroCodec() {
+        return new GoalCompletedEventAvroCodec(new FileSchemaRegistry(schemaRegistryDir));
+    }
+
     @Bean
-    public ProducerFactory<String, Object> producerFactory() {
+    public ProducerFactory<String, Object> producerFactory(MeterRegistry meterRegistry,
+                                                           GoalCompletedEventAvroCodec avroCodec) {
         Map<String, Object> config = new HashMap<>();
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
         config.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
-        return new DefaultKafkaProducerFactory<>(config);
+
+        // Idempotent producer: broker retries cannot duplicate or reorder events within a partition
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+
+        switch (profile) {
+            case "throughput" -> {
+                config.put(ProducerConfig.LINGER_MS_CONFIG, 20);
+                config.put(ProducerConfig.BATCH_SIZE_CONFIG, 65536);
+                config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+            }
+            case "latency" -> {
+                config.put(ProducerConfig.LINGER_MS_CONFIG, 0);
+                config.put(ProducerConfig.BATCH_SIZE_CONFIG, 16384);
+                config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "none");
+            }
+            default -> throw new IllegalStateException("Unknown Kafka producer profile: " + profile);
+        }
+
+        Serializer<Object> valueSerializer = switch (format) {
+            case "json" -> new JsonSerializer<>();
+            case "avro" -> new GoalCompletedEventAvroSerializer(avroCodec);
+            default -> throw new IllegalStateException("Unknown goal event format: " + format);
+        };
+
+        DefaultKafkaProducerFactory<String, Object> factory =
+                new DefaultKafkaProducerFactory<>(config, new StringSerializer(), valueSerializer);
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return factory;
     }
 
     @Bean
-    public KafkaTemplate<String, Object> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+    public KafkaTemplate<String, Object> kafkaTemplate(ProducerFactory<String, Object> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
     }
 }
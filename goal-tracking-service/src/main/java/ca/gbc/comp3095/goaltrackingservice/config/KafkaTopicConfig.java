@@ -15,4 +15,12 @@ public class KafkaTopicConfig {
                 .replicas(1)
                 .build();
     }
+
+    @Bean
+    public NewTopic goalReminderTopic() {
+        return TopicBuilder.name("goal-reminder-events")
+                .partitions(3)
+                .replicas(1)
+                .build();
+    }
 }
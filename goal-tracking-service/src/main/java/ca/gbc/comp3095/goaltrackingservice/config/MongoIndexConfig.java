@@ -0,0 +1,135 @@
+package ca.gbc.comp3095.goaltrackingservice.config;
+
+import ca.gbc.comp3095.goaltrackingservice.model.GoalCheckInBucket;
+import ca.gbc.comp3095.goaltrackingservice.model.GoalReminder;
+import ca.gbc.comp3095.goaltrackingservice.model.GoalTracking;
+import ca.gbc.comp3095.goaltrackingservice.model.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+import org.springframework.data.mongodb.core.query.Collation;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class MongoIndexConfig {
+
+    // Same collation as GoalTrackingRepository.CASE_INSENSITIVE: English, ignoring case
+    public static final Collation CASE_INSENSITIVE = Collation.of("en").strength(Collation.ComparisonLevel.secondary());
+
+    // Replaced by the indexes below; dropped so existing deployments stop maintaining them on every write
+    private static final List<String> SUPERSEDED_GOAL_INDEXES =
+            List.of("category_ci", "status_ci", "owner_status_target_date_ci");
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${goals.outbox.retention:7d}")
+    private Duration outboxRetention;
+
+    @Value("${goals.reminders.retention:7d}")
+    private Duration reminderRetention;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        IndexOperations goalIndexes = mongoTemplate.indexOps(GoalTracking.class);
+        dropIndexes(goalIndexes, SUPERSEDED_GOAL_INDEXES);
+
+        // _id as the trailing key lets keyset pages (category/status + _id > after) read in index order
+        goalIndexes.createIndex(new Index()
+                .on("category", Sort.Direction.ASC)
+                .on("_id", Sort.Direction.ASC)
+                .named("category_id_ci")
+                .collation(CASE_INSENSITIVE));
+        goalIndexes.createIndex(new Index()
+                .on("status", Sort.Direction.ASC)
+                .on("_id", Sort.Direction.ASC)
+                .named("status_id_ci")
+                .collation(CASE_INSENSITIVE));
+        goalIndexes.createIndex(new Index()
+                .on("category", Sort.Direction.ASC)
+                .on("status", Sort.Direction.ASC)
+                .named("category_status_ci")
+                .collation(CASE_INSENSITIVE));
+        // Serves the overdue scanner: expired in-progress goals are a prefix of each status range
+        goalIndexes.createIndex(new Index()
+                .on("status", Sort.Direction.ASC)
+                .on("targetDate", Sort.Direction.ASC)
+                .named("status_target_date_ci")
+                .collation(CASE_INSENSITIVE));
+        // Serves /api/goals/mine and doubles as the index for the ownerId shard key, which requires the
+        // simple collation; owner ids are subjects and must match exactly
+        goalIndexes.createIndex(new Index()
+                .on("ownerId", Sort.Direction.ASC)
+                .on("status", Sort.Direction.ASC)
+                .on("targetDate", Sort.Direction.ASC)
+                .named("owner_status_target_date"));
+        // Text indexes cannot carry a collation; a title match counts three times a description match
+        goalIndexes.createIndex(TextIndexDefinition.builder()
+                .onField("title", 3F)
+                .onField("description", 1F)
+                .withDefaultLanguage("english")
+                .named("goal_text")
+                .build());
+
+        log.info("Ensured MongoDB indexes for collection: {}", mongoTemplate.getCollectionName(GoalTracking.class));
+
+        IndexOperations outboxIndexes = mongoTemplate.indexOps(OutboxEvent.class);
+        outboxIndexes.createIndex(new Index()
+                .on("publishedAt", Sort.Direction.ASC)
+                .on("_id", Sort.Direction.ASC)
+                .named("unpublished"));
+        // Published events are only kept for troubleshooting; unpublished ones never expire
+        outboxIndexes.createIndex(new Index()
+                .on("publishedAt", Sort.Direction.ASC)
+                .named("published_ttl")
+                .expire(outboxRetention));
+
+        log.info("Ensured MongoDB indexes for collection: {}", OutboxEvent.COLLECTION);
+
+        IndexOperations reminderIndexes = mongoTemplate.indexOps(GoalReminder.class);
+        reminderIndexes.createIndex(new Index()
+                .on("sentAt", Sort.Direction.ASC)
+                .on("remindAt", Sort.Direction.ASC)
+                .named("unsent_remind_at"));
+        reminderIndexes.createIndex(new Index()
+                .on("claimId", Sort.Direction.ASC)
+                .named("claim")
+                .sparse());
+        reminderIndexes.createIndex(new Index()
+                .on("sentAt", Sort.Direction.ASC)
+                .named("sent_ttl")
+                .expire(reminderRetention));
+
+        log.info("Ensured MongoDB indexes for collection: {}", GoalReminder.COLLECTION);
+
+        // One entry per bucket (goal and month), not per check-in
+        mongoTemplate.indexOps(GoalCheckInBucket.class).createIndex(new Index()
+                .on("goalId", Sort.Direction.ASC)
+                .on("month", Sort.Direction.ASC)
+                .named("goal_month"));
+
+        log.info("Ensured MongoDB indexes for collection: {}", GoalCheckInBucket.COLLECTION);
+    }
+
+    private void dropIndexes(IndexOperations indexes, List<String> names) {
+        indexes.getIndexInfo().stream()
+                .map(IndexInfo::getName)
+                .filter(names::contains)
+                .forEach(name -> {
+                    indexes.dropIndex(name);
+                    log.info("Dropped superseded MongoDB index: {}", name);
+                });
+    }
+}
@@ -0,0 +1,22 @@
+package ca.gbc.comp3095.goaltrackingservice.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+
+/**
+ * Backs {@code @Transactional} with MongoDB multi-document transactions, so a goal's status
+ * change and its outbox event are committed together. Requires MongoDB to run as a replica set.
+ * <p>
+ * The completion paths are transactional, and OverdueGoalScanner runs each batch it marks
+ * overdue in a TransactionTemplate on this manager; reads and the other writes run without one.
+ */
+@Configuration
+public class MongoTransactionConfig {
+
+    @Bean
+    public MongoTransactionManager transactionManager(MongoDatabaseFactory databaseFactory) {
+        return new MongoTransactionManager(databaseFactory);
+    }
+}
@@ -1,12 +1,27 @@
 package ca.gbc.comp3095.goaltrackingservice.controller;
 
-import ca.gbc.comp3095.goaltrackingservice.client.WellnessResourceClient;
+import ca.gbc.comp3095.goaltrackingservice.dto.BulkCompletionRequest;
+import ca.gbc.comp3095.goaltrackingservice.dto.CheckInRequest;
+import ca.gbc.comp3095.goaltrackingservice.dto.GoalChange;
+import ca.gbc.comp3095.goaltrackingservice.dto.GoalCompletionResult;
+import ca.gbc.comp3095.goaltrackingservice.dto.GoalCreationResult;
+import ca.gbc.comp3095.goaltrackingservice.dto.GoalSearchResults;
+import ca.gbc.comp3095.goaltrackingservice.dto.GoalStats;
+import ca.gbc.comp3095.goaltrackingservice.dto.GoalSummary;
 import ca.gbc.comp3095.goaltrackingservice.dto.GoalTrackingRequest;
+import ca.gbc.comp3095.goaltrackingservice.dto.MonthlyProgress;
 import ca.gbc.comp3095.goaltrackingservice.dto.WellnessResource;
+import ca.gbc.comp3095.goaltrackingservice.model.GoalCheckInBucket;
 import ca.gbc.comp3095.goaltrackingservice.model.GoalTracking;
+import ca.gbc.comp3095.goaltrackingservice.service.GoalChangeStreamService;
+import ca.gbc.comp3095.goaltrackingservice.service.GoalCheckInService;
+import ca.gbc.comp3095.goaltrackingservice.service.GoalExportService;
+import ca.gbc.comp3095.goaltrackingservice.service.GoalStatsService;
 import ca.gbc.comp3095.goaltrackingservice.service.GoalTrackingService;
+import ca.gbc.comp3095.goaltrackingservice.service.SuggestedResourceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,10 +30,25 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/goals")
@@ -27,21 +57,103 @@ import java.util.List;
 @Tag(name = "Goal Tracking", description = "APIs for managing personal wellness goals")
 public class GoalTrackingController {
 
+    // Set by the API gateway from the subject of the caller's JWT
+    public static final String USER_ID_HEADER = "X-User-Id";
+
     private final GoalTrackingService service;
-    private final WellnessResourceClient wellnessResourceClient;
+    private final SuggestedResourceService suggestedResourceService;
+    private final GoalStatsService goalStatsService;
+    private final GoalChangeStreamService goalChangeStreamService;
+    private final GoalCheckInService goalCheckInService;
+    private final GoalExportService goalExportService;
+
+    @Value("${goals.stream.heartbeat-interval:15s}")
+    private Duration streamHeartbeatInterval;
+
+    @Value("${goals.stream.max-duration:10m}")
+    private Duration streamMaxDuration;
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     @Operation(
             summary = "Get all goals",
-            description = "Retrieves a list of all wellness goals in the system."
+            description = "Retrieves a list of all wellness goals in the system. When after or limit is given, " +
+                    "returns one page ordered by goalId; pass the last goalId of a page as after to get the next one. " +
+                    "With view=summary only the fields a list needs are read and returned."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved list of goals",
+                    content = @Content(schema = @Schema(oneOf = {GoalTracking.class, GoalSummary.class}))),
+            @ApiResponse(responseCode = "400", description = "Invalid after cursor, limit or view")
+    })
+    public List<?> getAllGoals(
+            @Parameter(description = "Return goals after this goalId") @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of goals to return") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "summary or full") @RequestParam(defaultValue = "full") String view) {
+        boolean paged = after != null || limit != null;
+        if (isSummaryView(view)) {
+            return paged ? service.getGoalSummaries(after, limit) : service.getGoalSummaries();
+        }
+        return paged ? service.getGoals(after, limit) : service.getAllGoals();
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Stream all goals",
+            description = "Streams every wellness goal as NDJSON or server-sent events, selected by the Accept header. " +
+                    "Goals are written as the database cursor yields them instead of being collected into one response."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Goals streamed",
                     content = @Content(schema = @Schema(implementation = GoalTracking.class)))
     })
-    public List<GoalTracking> getAllGoals() {
-        return service.getAllGoals();
+    public Flux<GoalTracking> streamAllGoals() {
+        // Streamed responses are not bound by spring.mvc.async.request-timeout, so the dump carries its own
+        // deadline; one shared timer makes it a limit on the whole response rather than on each goal
+        Mono<Long> deadline = Mono.delay(streamMaxDuration).cache();
+        return service.streamAllGoals().timeout(deadline, goal -> deadline);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream live goal changes",
+            description = "Server-sent events for every goal created, updated, completed or deleted from now on, " +
+                    "optionally filtered by category and/or status. Deletes are always sent. Clients that fall too " +
+                    "far behind are disconnected and should reconnect."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream of goal changes",
+                    content = @Content(schema = @Schema(implementation = GoalChange.class)))
+    })
+    public Flux<ServerSentEvent<GoalChange>> streamGoalChanges(
+            @Parameter(description = "Only goals in this category") @RequestParam(required = false) String category,
+            @Parameter(description = "Only goals with this status") @RequestParam(required = false) String status) {
+        Flux<ServerSentEvent<GoalChange>> changes = goalChangeStreamService.subscribe(category, status)
+                .map(change -> ServerSentEvent.builder(change)
+                        .event(change.operation())
+                        .id(change.goalId())
+                        .build());
+        // No deadline: subscribers stay connected until they disconnect or fall behind. Comments keep idle
+        // connections open through proxies and surface disconnected clients; they stop as soon as the
+        // subscriber is dropped so the response completes
+        Flux<ServerSentEvent<GoalChange>> heartbeats = Flux.interval(streamHeartbeatInterval)
+                .map(tick -> ServerSentEvent.<GoalChange>builder().comment("heartbeat").build());
+        return changes.publish(shared -> Flux.merge(shared, heartbeats.takeUntilOther(shared.then())));
+    }
+
+    @GetMapping("/stats")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Get goal statistics",
+            description = "Returns goal counts by category and status, and the number of open goals past their target date."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved goal statistics",
+                    content = @Content(schema = @Schema(implementation = GoalStats.class)))
+    })
+    public GoalStats getGoalStats() {
+        return goalStatsService.getStats();
     }
 
     @GetMapping("/{id}")
@@ -65,30 +177,136 @@ public class GoalTrackingController {
     @ResponseStatus(HttpStatus.OK)
     @Operation(
             summary = "Get goals by category",
-            description = "Retrieves all wellness goals filtered by a specific category."
+            description = "Retrieves all wellness goals filtered by a specific category. " +
+                    "With view=summary only the fields a list needs are read and returned."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved goals",
-                    content = @Content(schema = @Schema(implementation = GoalTracking.class)))
+                    content = @Content(schema = @Schema(oneOf = {GoalTracking.class, GoalSummary.class}))),
+            @ApiResponse(responseCode = "400", description = "Invalid after cursor, limit or view")
     })
-    public List<GoalTracking> getGoalsByCategory(
-            @Parameter(description = "Category name", required = true) @PathVariable String category) {
-        return service.getGoalsByCategory(category);
+    public List<?> getGoalsByCategory(
+            @Parameter(description = "Category name", required = true) @PathVariable String category,
+            @Parameter(description = "Return goals after this goalId") @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of goals to return") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "summary or full") @RequestParam(defaultValue = "full") String view) {
+        boolean paged = after != null || limit != null;
+        if (isSummaryView(view)) {
+            return paged
+                    ? service.getGoalSummariesByCategory(category, after, limit)
+                    : service.getGoalSummariesByCategory(category);
+        }
+        return paged ? service.getGoalsByCategory(category, after, limit) : service.getGoalsByCategory(category);
     }
 
     @GetMapping("/status/{status}")
     @ResponseStatus(HttpStatus.OK)
     @Operation(
             summary = "Get goals by status",
-            description = "Retrieves all wellness goals filtered by status (e.g., IN_PROGRESS, COMPLETED, PENDING)."
+            description = "Retrieves all wellness goals filtered by status (e.g., IN_PROGRESS, COMPLETED, PENDING). " +
+                    "With view=summary only the fields a list needs are read and returned."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved goals",
-                    content = @Content(schema = @Schema(implementation = GoalTracking.class)))
+                    content = @Content(schema = @Schema(oneOf = {GoalTracking.class, GoalSummary.class}))),
+            @ApiResponse(responseCode = "400", description = "Invalid after cursor, limit or view")
+    })
+    public List<?> getGoalsByStatus(
+            @Parameter(description = "Goal status", required = true) @PathVariable String status,
+            @Parameter(description = "Return goals after this goalId") @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of goals to return") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "summary or full") @RequestParam(defaultValue = "full") String view) {
+        boolean paged = after != null || limit != null;
+        if (isSummaryView(view)) {
+            return paged
+                    ? service.getGoalSummariesByStatus(status, after, limit)
+                    : service.getGoalSummariesByStatus(status);
+        }
+        return paged ? service.getGoalsByStatus(status, after, limit) : service.getGoalsByStatus(status);
+    }
+
+    @GetMapping("/mine")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Get my goals",
+            description = "Retrieves the calling student's goals, ordered by status and then target date. " +
+                    "Optionally filtered by status.",
+            security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved goals",
+                    content = @Content(schema = @Schema(implementation = GoalTracking.class))),
+            @ApiResponse(responseCode = "400", description = "Request did not come through the gateway with a user")
+    })
+    public List<GoalTracking> getMyGoals(
+            @Parameter(hidden = true) @RequestHeader(USER_ID_HEADER) String ownerId,
+            @Parameter(description = "Only goals with this status") @RequestParam(required = false) String status) {
+        return service.getGoalsByOwner(ownerId, status);
+    }
+
+    @GetMapping("/export")
+    @Operation(
+            summary = "Export goals",
+            description = "Streams goals as CSV or NDJSON directly from a database cursor, optionally filtered by " +
+                    "category and/or status and limited to selected fields. The response is gzip-compressed when " +
+                    "the client accepts gzip.",
+            security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Goals streamed"),
+            @ApiResponse(responseCode = "400", description = "Unknown format or field, or invalid batch size")
+    })
+    public ResponseEntity<StreamingResponseBody> exportGoals(
+            @Parameter(description = "csv or ndjson") @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "Only goals in this category") @RequestParam(required = false) String category,
+            @Parameter(description = "Only goals with this status") @RequestParam(required = false) String status,
+            @Parameter(description = "Fields to include, in order; defaults to all") @RequestParam(required = false) List<String> fields,
+            @Parameter(description = "Documents fetched per database round trip") @RequestParam(required = false) Integer batchSize,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        GoalExportService.ExportRequest export = goalExportService.prepare(format, category, status, fields, batchSize);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.equals("csv")
+                        ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                        : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("goals." + format)
+                        .build()
+                        .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(out -> {
+            if (gzip) {
+                try (GZIPOutputStream compressed = new GZIPOutputStream(out, 65536)) {
+                    goalExportService.export(export, compressed);
+                }
+            } else {
+                goalExportService.export(export, out);
+            }
+        });
+    }
+
+    @GetMapping("/search")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Search goals",
+            description = "Full-text search over goal titles and descriptions, most relevant first. Title matches " +
+                    "weigh more than description matches. Optionally filtered by category and/or status."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully searched goals",
+                    content = @Content(schema = @Schema(implementation = GoalSearchResults.class))),
+            @ApiResponse(responseCode = "400", description = "Blank query, invalid after cursor or limit")
     })
-    public List<GoalTracking> getGoalsByStatus(
-            @Parameter(description = "Goal status", required = true) @PathVariable String status) {
-        return service.getGoalsByStatus(status);
+    public GoalSearchResults searchGoals(
+            @Parameter(description = "Words or \"phrases\" to search for", required = true) @RequestParam String q,
+            @Parameter(description = "Only goals in this category") @RequestParam(required = false) String category,
+            @Parameter(description = "Only goals with this status") @RequestParam(required = false) String status,
+            @Parameter(description = "The next cursor from the previous page") @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of goals to return") @RequestParam(required = false) Integer limit) {
+        return service.searchGoals(q, category, status, after, limit);
     }
 
     @PostMapping
@@ -109,8 +327,34 @@ public class GoalTrackingController {
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "Goal details", required = true,
                     content = @Content(schema = @Schema(implementation = GoalTrackingRequest.class)))
-            @RequestBody GoalTrackingRequest request) {
-        return service.createGoal(request);
+            @RequestBody GoalTrackingRequest request,
+            @Parameter(hidden = true) @RequestHeader(value = USER_ID_HEADER, required = false) String ownerId) {
+        return service.createGoal(request, ownerId);
+    }
+
+    @PostMapping("/bulk")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Create many goals",
+            description = "Validates a batch of goals and inserts them in a few bulk writes. Results are reported per " +
+                    "goal, in request order, with the new goalId or the reason it was not created. By default every " +
+                    "valid goal is written; with ordered=true writing stops at the first failure.",
+            security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Per-goal creation results",
+                    content = @Content(schema = @Schema(implementation = GoalCreationResult.class))),
+            @ApiResponse(responseCode = "400", description = "Empty batch or too many goals in one request"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required")
+    })
+    public List<GoalCreationResult> createGoals(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Goals to create", required = true,
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = GoalTrackingRequest.class))))
+            @RequestBody List<GoalTrackingRequest> requests,
+            @Parameter(description = "Stop at the first goal that fails") @RequestParam(defaultValue = "false") boolean ordered,
+            @Parameter(hidden = true) @RequestHeader(value = USER_ID_HEADER, required = false) String ownerId) {
+        return service.createGoals(requests, ownerId, ordered);
     }
 
     @PutMapping("/{id}")
@@ -154,6 +398,28 @@ public class GoalTrackingController {
         return service.markGoalAsCompleted(id);
     }
 
+    @PatchMapping("/complete")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Mark many goals as completed",
+            description = "Completes the goals listed in goalIds, or every goal matching the category/status filter, " +
+                    "in one bulk write. A GoalCompletedEvent is published for each goal that was not already completed.",
+            security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Per-goal completion results",
+                    content = @Content(schema = @Schema(implementation = GoalCompletionResult.class))),
+            @ApiResponse(responseCode = "400", description = "No goals selected or too many goals in one request"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required")
+    })
+    public List<GoalCompletionResult> markGoalsAsCompleted(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Goal IDs or a category/status filter", required = true,
+                    content = @Content(schema = @Schema(implementation = BulkCompletionRequest.class)))
+            @RequestBody BulkCompletionRequest request) {
+        return service.markGoalsAsCompleted(request);
+    }
+
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(
@@ -171,11 +437,74 @@ public class GoalTrackingController {
         service.deleteGoal(id);
     }
 
+    @PostMapping("/{id}/check-ins")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(
+            summary = "Record a progress check-in",
+            description = "Records a progress value and optional note against a goal. The timestamp defaults to now.",
+            security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Check-in recorded",
+                    content = @Content(schema = @Schema(implementation = GoalCheckInBucket.CheckIn.class))),
+            @ApiResponse(responseCode = "400", description = "Missing value"),
+            @ApiResponse(responseCode = "404", description = "Goal not found")
+    })
+    public GoalCheckInBucket.CheckIn addCheckIn(
+            @Parameter(description = "Goal ID", required = true) @PathVariable String id,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Check-in details", required = true,
+                    content = @Content(schema = @Schema(implementation = CheckInRequest.class)))
+            @RequestBody CheckInRequest request) {
+        return goalCheckInService.addCheckIn(id, request);
+    }
+
+    @GetMapping("/{id}/check-ins")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Get progress check-ins",
+            description = "Returns a goal's check-ins between two dates, oldest first."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved check-ins",
+                    content = @Content(schema = @Schema(implementation = GoalCheckInBucket.CheckIn.class))),
+            @ApiResponse(responseCode = "400", description = "to is before from")
+    })
+    public List<GoalCheckInBucket.CheckIn> getCheckIns(
+            @Parameter(description = "Goal ID", required = true) @PathVariable String id,
+            @Parameter(description = "First day (inclusive)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day (inclusive)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return goalCheckInService.getCheckIns(id, from, to);
+    }
+
+    @GetMapping("/{id}/progress")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Get monthly progress",
+            description = "Returns the number, total and average of a goal's check-ins for each month in the range."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved progress",
+                    content = @Content(schema = @Schema(implementation = MonthlyProgress.class))),
+            @ApiResponse(responseCode = "400", description = "to is before from")
+    })
+    public List<MonthlyProgress> getMonthlyProgress(
+            @Parameter(description = "Goal ID", required = true) @PathVariable String id,
+            @Parameter(description = "First day (inclusive)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day (inclusive)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return goalCheckInService.getMonthlyProgress(id, from, to);
+    }
+
     @GetMapping("/{id}/suggested-resources")
     @ResponseStatus(HttpStatus.OK)
     @Operation(
             summary = "Get suggested resources for a goal",
-            description = "Returns wellness resources that match the goal's category. Uses circuit breaker for fault tolerance."
+            description = "Returns wellness resources that match the goal's category. Results are cached per category; " +
+                    "cached results are also served while wellness-resource-service is unavailable."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Resources retrieved successfully (may be empty if service is down)",
@@ -192,13 +521,21 @@ public class GoalTrackingController {
             return List.of();
         }
 
-        // Call wellness-resource-service with circuit breaker protection
+        // Served from the local cache, falling back to wellness-resource-service with circuit breaker protection
         try {
-            return wellnessResourceClient.getResourcesByCategory(goal.getCategory());
+            return suggestedResourceService.getResourcesByCategory(goal.getCategory());
         } catch (Exception e) {
             // If circuit breaker fallback doesn't work, return empty list as last resort
             log.warn("Exception calling wellness-resource-service, returning empty list: {}", e.getMessage());
             return List.of();
         }
     }
-}
\ No newline at end of file
+
+    private static boolean isSummaryView(String view) {
+        return switch (view) {
+            case "summary" -> true;
+            case "full" -> false;
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "view must be summary or full: " + view);
+        };
+    }
+}
@@ -0,0 +1,131 @@
+package ca.gbc.comp3095.goaltrackingservice.controller;
+
+import ca.gbc.comp3095.goaltrackingservice.dto.WellnessResource;
+import ca.gbc.comp3095.goaltrackingservice.model.GoalTracking;
+import ca.gbc.comp3095.goaltrackingservice.service.GoalTrackingService;
+import ca.gbc.comp3095.goaltrackingservice.service.SuggestedResourceService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking variants of the goal read endpoints.
+ * <p>
+ * Handlers return {@code Mono}/{@code Flux} backed by the reactive Mongo driver and a
+ * non-blocking WebClient, so the request thread goes back to Tomcat as soon as the handler
+ * returns and nothing waits on I/O. Writes stay on {@link GoalTrackingController}, where goal
+ * completions share a Mongo transaction with the outbox.
+ */
+@RestController
+@RequestMapping("/api/goals/reactive")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Goal Tracking (reactive)", description = "Non-blocking variants of the goal read APIs")
+public class ReactiveGoalTrackingController {
+
+    private final GoalTrackingService service;
+    private final SuggestedResourceService suggestedResourceService;
+
+    @GetMapping("/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Get goal by ID",
+            description = "Retrieves a specific wellness goal by its unique identifier without blocking a request thread."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Goal found",
+                    content = @Content(schema = @Schema(implementation = GoalTracking.class))),
+            @ApiResponse(responseCode = "404", description = "Goal not found")
+    })
+    public Mono<GoalTracking> getGoalById(
+            @Parameter(description = "Goal ID", required = true) @PathVariable String id) {
+        return service.getGoalByIdReactive(id)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Goal not found with id: " + id)));
+    }
+
+    @GetMapping("/category/{category}")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Get goals by category",
+            description = "Retrieves all wellness goals in a category (case-insensitive) without blocking a request thread."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved goals",
+                    content = @Content(schema = @Schema(implementation = GoalTracking.class)))
+    })
+    public Flux<GoalTracking> getGoalsByCategory(
+            @Parameter(description = "Goal category", required = true) @PathVariable String category) {
+        return service.getGoalsByCategoryReactive(category);
+    }
+
+    @GetMapping("/status/{status}")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Get goals by status",
+            description = "Retrieves all wellness goals with a status (case-insensitive) without blocking a request thread."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved goals",
+                    content = @Content(schema = @Schema(implementation = GoalTracking.class)))
+    })
+    public Flux<GoalTracking> getGoalsByStatus(
+            @Parameter(description = "Goal status", required = true) @PathVariable String status) {
+        return service.getGoalsByStatusReactive(status);
+    }
+
+    @GetMapping("/mine")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Get my goals",
+            description = "Retrieves the calling student's goals, ordered by status and then target date, " +
+                    "without blocking a request thread.",
+            security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved goals",
+                    content = @Content(schema = @Schema(implementation = GoalTracking.class))),
+            @ApiResponse(responseCode = "400", description = "Request did not come through the gateway with a user")
+    })
+    public Flux<GoalTracking> getMyGoals(
+            @Parameter(hidden = true) @RequestHeader(GoalTrackingController.USER_ID_HEADER) String ownerId) {
+        return service.getGoalsByOwnerReactive(ownerId);
+    }
+
+    @GetMapping("/{id}/suggested-resources")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Get suggested resources for a goal",
+            description = "Returns wellness resources that match the goal's category. Cache misses wait on " +
+                    "wellness-resource-service without holding a request thread."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resources retrieved successfully (may be empty if service is down)",
+                    content = @Content(schema = @Schema(implementation = WellnessResource.class))),
+            @ApiResponse(responseCode = "404", description = "Goal not found")
+    })
+    public Mono<List<WellnessResource>> getSuggestedResources(
+            @Parameter(description = "Goal ID", required = true) @PathVariable String id) {
+        return getGoalById(id)
+                .flatMap(goal -> goal.getCategory() == null || goal.getCategory().isEmpty()
+                        ? Mono.just(List.<WellnessResource>of())
+                        : suggestedResourceService.getResourcesByCategoryReactive(goal.getCategory())
+                                .onErrorResume(e -> {
+                                    log.warn("Exception calling wellness-resource-service, returning empty list: {}",
+                                            e.getMessage());
+                                    return Mono.just(List.of());
+                                }));
+    }
+}
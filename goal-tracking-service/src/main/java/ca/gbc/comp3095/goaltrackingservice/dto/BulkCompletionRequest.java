@@ -0,0 +1,13 @@
+package ca.gbc.comp3095.goaltrackingservice.dto;
+
+import java.util.List;
+
+/**
+ * Either {@code goalIds} or a category/status filter selecting the goals to complete.
+ */
+public record BulkCompletionRequest(
+        List<String> goalIds,
+        String category,
+        String status
+) {
+}
@@ -0,0 +1,13 @@
+package ca.gbc.comp3095.goaltrackingservice.dto;
+
+import java.time.Instant;
+
+/**
+ * {@code timestamp} defaults to now when omitted.
+ */
+public record CheckInRequest(
+        Double value,
+        String note,
+        Instant timestamp
+) {
+}
@@ -0,0 +1,13 @@
+package ca.gbc.comp3095.goaltrackingservice.dto;
+
+import ca.gbc.comp3095.goaltrackingservice.model.GoalTracking;
+
+/**
+ * A change to one goal; {@code goal} is the document after the change and is null for deletes.
+ */
+public record GoalChange(
+        String operation,
+        String goalId,
+        GoalTracking goal
+) {
+}
@@ -0,0 +1,12 @@
+package ca.gbc.comp3095.goaltrackingservice.dto;
+
+public record GoalCompletionResult(
+        String goalId,
+        Outcome outcome
+) {
+    public enum Outcome {
+        COMPLETED,
+        ALREADY_COMPLETED,
+        NOT_FOUND
+    }
+}
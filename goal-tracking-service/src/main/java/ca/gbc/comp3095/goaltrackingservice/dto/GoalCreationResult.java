@@ -0,0 +1,12 @@
+package ca.gbc.comp3095.goaltrackingservice.dto;
+
+/**
+ * Outcome of one goal in a bulk create, by its position in the request. Exactly one of
+ * {@code goalId} and {@code error} is set.
+ */
+public record GoalCreationResult(
+        int index,
+        String goalId,
+        String error
+) {
+}
@@ -0,0 +1,15 @@
+package ca.gbc.comp3095.goaltrackingservice.dto;
+
+import ca.gbc.comp3095.goaltrackingservice.model.GoalTracking;
+
+import java.util.List;
+
+/**
+ * One page of search results, most relevant first; pass {@code next} as {@code after} for the
+ * following page. {@code next} is null on the last page.
+ */
+public record GoalSearchResults(
+        List<GoalTracking> goals,
+        String next
+) {
+}
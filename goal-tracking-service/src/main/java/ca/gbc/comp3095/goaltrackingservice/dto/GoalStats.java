@@ -0,0 +1,11 @@
+package ca.gbc.comp3095.goaltrackingservice.dto;
+
+import java.util.Map;
+
+public record GoalStats(
+        long total,
+        Map<String, Long> byCategory,
+        Map<String, Long> byStatus,
+        long overdue
+) {
+}
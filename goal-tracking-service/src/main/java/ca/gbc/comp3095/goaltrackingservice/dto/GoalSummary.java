@@ -0,0 +1,16 @@
+package ca.gbc.comp3095.goaltrackingservice.dto;
+
+import java.time.LocalDate;
+
+/**
+ * The fields a goal list needs to render a row. Read with a field projection, so descriptions
+ * and owners are never sent by the database.
+ */
+public record GoalSummary(
+        String goalId,
+        String title,
+        String status,
+        String category,
+        LocalDate targetDate
+) {
+}
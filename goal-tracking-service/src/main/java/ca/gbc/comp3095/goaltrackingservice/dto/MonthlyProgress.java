@@ -0,0 +1,9 @@
+package ca.gbc.comp3095.goaltrackingservice.dto;
+
+public record MonthlyProgress(
+        String month,
+        long checkIns,
+        double total,
+        double average
+) {
+}
@@ -0,0 +1,116 @@
+package ca.gbc.comp3095.goaltrackingservice.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaFormatter;
+import org.apache.avro.SchemaCompatibility;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Stand-in for a schema registry, kept in a directory shared by producers and consumers.
+ * <p>
+ * Each schema is stored as {@code <subject>/<id>.avsc}; ids are unique across subjects.
+ * A new schema is only accepted for a subject if it is fully compatible with every earlier
+ * version, so old consumers can read new events and new consumers can read old ones.
+ */
+@Slf4j
+public class FileSchemaRegistry {
+
+    private final Path directory;
+    private final Map<Integer, Schema> schemasById = new ConcurrentHashMap<>();
+
+    public FileSchemaRegistry(Path directory) {
+        this.directory = directory;
+    }
+
+    public synchronized int register(String subject, Schema schema) {
+        Path subjectDirectory = directory.resolve(subject);
+        try {
+            Files.createDirectories(subjectDirectory);
+            Map<Integer, Schema> versions = readSubject(subjectDirectory);
+            for (Map.Entry<Integer, Schema> version : versions.entrySet()) {
+                if (version.getValue().equals(schema)) {
+                    return version.getKey();
+                }
+            }
+            for (Map.Entry<Integer, Schema> version : versions.entrySet()) {
+                checkCompatible(subject, schema, version.getKey(), version.getValue());
+            }
+
+            while (true) {
+                int id = nextId();
+                try {
+                    Files.writeString(subjectDirectory.resolve(id + ".avsc"), SchemaFormatter.format("json/pretty", schema),
+                            StandardCharsets.UTF_8, StandardOpenOption.CREATE_NEW);
+                    schemasById.put(id, schema);
+                    log.info("Registered schema {} for subject: {}", id, subject);
+                    return id;
+                } catch (FileAlreadyExistsException e) {
+                    // Another service registered a schema with the same id first; take the next one
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not register schema for subject: " + subject, e);
+        }
+    }
+
+    public Schema getById(int id) {
+        return schemasById.computeIfAbsent(id, this::load);
+    }
+
+    private Schema load(int id) {
+        try (Stream<Path> subjects = Files.list(directory)) {
+            Path file = subjects.map(subject -> subject.resolve(id + ".avsc"))
+                    .filter(Files::exists)
+                    .findFirst()
+                    .orElseThrow(() -> new SerializationException("Unknown schema id: " + id));
+            return new Schema.Parser().parse(file.toFile());
+        } catch (IOException e) {
+            throw new SerializationException("Could not read schema id: " + id, e);
+        }
+    }
+
+    private Map<Integer, Schema> readSubject(Path subjectDirectory) throws IOException {
+        Map<Integer, Schema> versions = new TreeMap<>();
+        try (Stream<Path> files = Files.list(subjectDirectory)) {
+            for (Path file : files.filter(f -> f.toString().endsWith(".avsc")).toList()) {
+                int id = Integer.parseInt(file.getFileName().toString().replace(".avsc", ""));
+                versions.put(id, getById(id));
+            }
+        }
+        return versions;
+    }
+
+    private int nextId() throws IOException {
+        try (Stream<Path> files = Files.walk(directory, 2)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(".avsc"))
+                    .mapToInt(name -> Integer.parseInt(name.replace(".avsc", "")))
+                    .max()
+                    .orElse(0) + 1;
+        }
+    }
+
+    private static void checkCompatible(String subject, Schema schema, int existingId, Schema existing) {
+        boolean readsOld = SchemaCompatibility.checkReaderWriterCompatibility(schema, existing).getType()
+                == SchemaCompatibility.SchemaCompatibilityType.COMPATIBLE;
+        boolean readableByOld = SchemaCompatibility.checkReaderWriterCompatibility(existing, schema).getType()
+                == SchemaCompatibility.SchemaCompatibilityType.COMPATIBLE;
+        if (!readsOld || !readableByOld) {
+            throw new IllegalStateException("Schema for subject " + subject
+                    + " is not compatible with registered schema " + existingId);
+        }
+    }
+}
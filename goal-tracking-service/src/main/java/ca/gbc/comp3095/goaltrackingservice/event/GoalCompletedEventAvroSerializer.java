@@ -0,0 +1,30 @@
+package ca.gbc.comp3095.goaltrackingservice.event;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+@RequiredArgsConstructor
+public class GoalCompletedEventAvroSerializer implements Serializer<Object> {
+
+    private final GoalCompletedEventAvroCodec codec;
+
+    // Events without an Avro schema yet, such as reminders, stay JSON
+    private final JsonSerializer<Object> jsonSerializer = new JsonSerializer<>().noTypeInfo();
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (data == null) {
+            return null;
+        }
+        if (data instanceof GoalCompletedEvent event) {
+            return codec.encode(event);
+        }
+        return jsonSerializer.serialize(topic, data);
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+}
@@ -0,0 +1,29 @@
+package ca.gbc.comp3095.goaltrackingservice.event;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalReminderEvent {
+    private String goalId;
+    private String ownerId;
+    private String title;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate targetDate;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime remindAt;
+
+    @Builder.Default
+    private String eventType = "GOAL_REMINDER";
+}
@@ -0,0 +1,51 @@
+package ca.gbc.comp3095.goaltrackingservice.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Up to {@code goals.check-ins.bucket-size} check-ins of one goal in one month, with their
+ * running totals. A month with more check-ins than that continues in another bucket.
+ */
+@Document(collection = GoalCheckInBucket.COLLECTION)
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class GoalCheckInBucket {
+
+    public static final String COLLECTION = "goal_check_ins";
+
+    @Id
+    private String id;
+
+    private String goalId;
+
+    // yyyy-MM in the service's zone, so months sort and range-compare as strings
+    private String month;
+
+    private long count;
+
+    private double total;
+
+    private List<CheckIn> checkIns;
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class CheckIn {
+
+        private double value;
+
+        private String note;
+
+        private Instant timestamp;
+    }
+}
@@ -0,0 +1,27 @@
+package ca.gbc.comp3095.goaltrackingservice.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Number of goals sharing one category, status or (for open goals) target date,
+ * keyed as {@code <dimension>:<value>}.
+ */
+@Document(collection = "goal_counters")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class GoalCounter {
+
+    @Id
+    private String id;
+
+    private String dimension;
+
+    private String value;
+
+    private long count;
+}
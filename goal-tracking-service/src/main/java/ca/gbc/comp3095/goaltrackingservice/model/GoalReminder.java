@@ -0,0 +1,39 @@
+package ca.gbc.comp3095.goaltrackingservice.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Document(collection = GoalReminder.COLLECTION)
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class GoalReminder {
+
+    public static final String COLLECTION = "goal_reminders";
+
+    // One pending reminder per goal, so the goalId doubles as the reminder id
+    @Id
+    private String goalId;
+
+    private String ownerId;
+
+    private String title;
+
+    private LocalDate targetDate;
+
+    private Instant remindAt;
+
+    // Set by the instance sending the reminder; a claim older than the claim timeout is retried
+    private Instant claimedAt;
+
+    private String claimId;
+
+    // Set once Kafka has acknowledged the reminder
+    private Instant sentAt;
+}
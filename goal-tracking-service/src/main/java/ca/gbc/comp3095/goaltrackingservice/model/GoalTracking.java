@@ -3,20 +3,30 @@ package ca.gbc.comp3095.goaltrackingservice.model;
 import lombok.*;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Sharded;
 
 import java.time.LocalDate;
 
 @Document(collection = "goal_tracking")
+// Sharding is done by an administrator with sh.shardCollection("<db>.goal_tracking", { ownerId: 1 }),
+// using the owner_status_target_date index as the shard key index. Owners never change, so
+// saves can route to the owner's shard without looking the key up first. Completions and deletes
+// read the owner before their findAndModify/findAndRemove, which MongoDB before 7.1 rejects
+// without the shard key; reads and multi-document updates by goalId alone still fan out.
+@Sharded(shardKey = "ownerId", immutableKey = true)
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class GoalTracking {
 
     @Id
     private String goalId;
 
+    // Subject of the student who created the goal, as forwarded by the gateway
+    private String ownerId;
+
     private String title;
 
     private String description;
@@ -0,0 +1,31 @@
+package ca.gbc.comp3095.goaltrackingservice.model;
+
+import ca.gbc.comp3095.goaltrackingservice.event.GoalCompletedEvent;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Document(collection = OutboxEvent.COLLECTION)
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    public static final String COLLECTION = "goal_outbox";
+
+    @Id
+    private String id;
+
+    private String goalId;
+
+    private GoalCompletedEvent event;
+
+    private Instant createdAt;
+
+    // Set once Kafka has acknowledged the event; unpublished events have no value
+    private Instant publishedAt;
+}
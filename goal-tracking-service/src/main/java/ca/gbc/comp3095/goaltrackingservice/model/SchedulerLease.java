@@ -0,0 +1,25 @@
+package ca.gbc.comp3095.goaltrackingservice.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Document(collection = "scheduler_leases")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SchedulerLease {
+
+    // Name of the scheduled job the lease guards
+    @Id
+    private String id;
+
+    private String owner;
+
+    // The lease is free for anyone once this has passed, even if the owner never released it
+    private Instant lockedUntil;
+}
@@ -1,7 +1,70 @@
 package ca.gbc.comp3095.goaltrackingservice.repository;
 
+import ca.gbc.comp3095.goaltrackingservice.dto.GoalSummary;
 import ca.gbc.comp3095.goaltrackingservice.model.GoalTracking;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.util.List;
 
 public interface GoalTrackingRepository extends MongoRepository<GoalTracking, String> {
-}
\ No newline at end of file
+
+    // Must match the collation of the indexes created in MongoIndexConfig for them to be used
+    String CASE_INSENSITIVE = "{ 'locale': 'en', 'strength': 2 }";
+
+    // Fields read for GoalSummary; _id is always returned
+    String SUMMARY_FIELDS = "{ 'title': 1, 'status': 1, 'category': 1, 'targetDate': 1 }";
+
+    @Query(value = "{ 'category': ?0 }", collation = CASE_INSENSITIVE)
+    List<GoalTracking> findByCategory(String category);
+
+    @Query(value = "{ 'status': ?0 }", collation = CASE_INSENSITIVE)
+    List<GoalTracking> findByStatus(String status);
+
+    @Query(value = "{ 'category': ?0, 'status': ?1 }", collation = CASE_INSENSITIVE)
+    List<GoalTracking> findByCategoryAndStatus(String category, String status);
+
+    // Owner ids match exactly, so these use the simple collation of the owner_status_target_date index;
+    // statusPattern is an anchored pattern (see GoalTrackingServiceImpl) matched ignoring case instead
+
+    @Query(value = "{ 'ownerId': ?0 }", sort = "{ 'status': 1, 'targetDate': 1 }")
+    List<GoalTracking> findByOwner(String ownerId);
+
+    @Query(value = "{ 'ownerId': ?0, 'status': { $regex: ?1, $options: 'i' } }", sort = "{ 'targetDate': 1 }")
+    List<GoalTracking> findByOwnerAndStatus(String ownerId, String statusPattern);
+
+    // Keyset pages ordered by _id; pass the last goalId of the previous page as "after"
+
+    @Query(value = "{ '_id': { $gt: ?0 } }", sort = "{ '_id': 1 }")
+    List<GoalTracking> findPageAfter(ObjectId after, Pageable page);
+
+    @Query(value = "{ 'category': ?0, '_id': { $gt: ?1 } }", collation = CASE_INSENSITIVE, sort = "{ '_id': 1 }")
+    List<GoalTracking> findByCategoryPageAfter(String category, ObjectId after, Pageable page);
+
+    @Query(value = "{ 'status': ?0, '_id': { $gt: ?1 } }", collation = CASE_INSENSITIVE, sort = "{ '_id': 1 }")
+    List<GoalTracking> findByStatusPageAfter(String status, ObjectId after, Pageable page);
+
+    // Summary views of the list queries above
+
+    @Query(value = "{}", fields = SUMMARY_FIELDS)
+    List<GoalSummary> findAllSummaries();
+
+    @Query(value = "{ 'category': ?0 }", fields = SUMMARY_FIELDS, collation = CASE_INSENSITIVE)
+    List<GoalSummary> findSummariesByCategory(String category);
+
+    @Query(value = "{ 'status': ?0 }", fields = SUMMARY_FIELDS, collation = CASE_INSENSITIVE)
+    List<GoalSummary> findSummariesByStatus(String status);
+
+    @Query(value = "{ '_id': { $gt: ?0 } }", fields = SUMMARY_FIELDS, sort = "{ '_id': 1 }")
+    List<GoalSummary> findSummaryPageAfter(ObjectId after, Pageable page);
+
+    @Query(value = "{ 'category': ?0, '_id': { $gt: ?1 } }", fields = SUMMARY_FIELDS,
+            collation = CASE_INSENSITIVE, sort = "{ '_id': 1 }")
+    List<GoalSummary> findSummariesByCategoryPageAfter(String category, ObjectId after, Pageable page);
+
+    @Query(value = "{ 'status': ?0, '_id': { $gt: ?1 } }", fields = SUMMARY_FIELDS,
+            collation = CASE_INSENSITIVE, sort = "{ '_id': 1 }")
+    List<GoalSummary> findSummariesByStatusPageAfter(String status, ObjectId after, Pageable page);
+}
@@ -0,0 +1,7 @@
+package ca.gbc.comp3095.goaltrackingservice.repository;
+
+import ca.gbc.comp3095.goaltrackingservice.model.OutboxEvent;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface OutboxEventRepository extends MongoRepository<OutboxEvent, String> {
+}
@@ -0,0 +1,21 @@
+package ca.gbc.comp3095.goaltrackingservice.repository;
+
+import ca.gbc.comp3095.goaltrackingservice.model.GoalTracking;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+
+import static ca.gbc.comp3095.goaltrackingservice.repository.GoalTrackingRepository.CASE_INSENSITIVE;
+
+public interface ReactiveGoalTrackingRepository extends ReactiveMongoRepository<GoalTracking, String> {
+
+    @Query(value = "{ 'category': ?0 }", collation = CASE_INSENSITIVE)
+    Flux<GoalTracking> findByCategory(String category);
+
+    @Query(value = "{ 'status': ?0 }", collation = CASE_INSENSITIVE)
+    Flux<GoalTracking> findByStatus(String status);
+
+    // Owner ids match exactly, like GoalTrackingRepository.findByOwner
+    @Query(value = "{ 'ownerId': ?0 }", sort = "{ 'status': 1, 'targetDate': 1 }")
+    Flux<GoalTracking> findByOwner(String ownerId);
+}
@@ -1,33 +1,168 @@
 package ca.gbc.comp3095.goaltrackingservice.service;
 
 import ca.gbc.comp3095.goaltrackingservice.event.GoalCompletedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands events to a single dispatcher thread through a bounded queue, so callers never wait
+ * on Kafka metadata or a full producer buffer.
+ * <p>
+ * When the queue is full, {@code goals.events.overflow-policy} decides: {@code block} waits up to
+ * {@code goals.events.block-timeout-ms} for space, {@code shed} fails the event straight away.
+ * Either way the returned future fails and the event stays in the outbox for the next relay run.
+ */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class EventPublisher {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
     private static final String TOPIC = "goal-completed-events";
 
-    public void publishGoalCompletedEvent(GoalCompletedEvent event) {
-        log.info("Publishing goal completed event for goal: {}", event.getGoalId());
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${goals.events.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${goals.events.max-batch:500}")
+    private int maxBatch;
+
+    @Value("${goals.events.overflow-policy:block}")
+    private String overflowPolicy;
+
+    @Value("${goals.events.block-timeout-ms:1000}")
+    private long blockTimeoutMs;
+
+    private BlockingQueue<PendingEvent> queue;
+    private Thread dispatcher;
+    private volatile boolean running;
+
+    private DistributionSummary batchSize;
+    private Timer sendLatency;
+    private Counter sendErrors;
+    private Counter overflows;
+
+    private record PendingEvent(GoalCompletedEvent event, CompletableFuture<SendResult<String, Object>> result) {
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!overflowPolicy.equals("block") && !overflowPolicy.equals("shed")) {
+            throw new IllegalStateException("Unknown event overflow policy: " + overflowPolicy);
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("goals.events.queue.depth", queue, BlockingQueue::size)
+                .description("Events waiting to be handed to the Kafka producer")
+                .register(meterRegistry);
+        batchSize = DistributionSummary.builder("goals.events.batch.size")
+                .description("Events handed to the producer per dispatcher pass")
+                .register(meterRegistry);
+        sendLatency = Timer.builder("goals.events.send.latency")
+                .description("Time from handing an event to the producer until Kafka acknowledged it")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        sendErrors = Counter.builder("goals.events.send.errors")
+                .description("Events Kafka failed to acknowledge")
+                .register(meterRegistry);
+        overflows = Counter.builder("goals.events.overflow")
+                .description("Events rejected because the queue was full")
+                .tag("policy", overflowPolicy)
+                .register(meterRegistry);
+
+        running = true;
+        dispatcher = Thread.ofPlatform().name("goal-event-dispatcher").daemon().start(this::dispatch);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        dispatcher.join(TimeUnit.SECONDS.toMillis(10));
+        kafkaTemplate.flush();
+    }
+
+    public CompletableFuture<SendResult<String, Object>> publishGoalCompletedEvent(GoalCompletedEvent event) {
+        log.debug("Queueing goal completed event for goal: {}", event.getGoalId());
+        PendingEvent pending = new PendingEvent(event, new CompletableFuture<>());
+        boolean queued;
+        try {
+            queued = overflowPolicy.equals("block")
+                    ? queue.offer(pending, blockTimeoutMs, TimeUnit.MILLISECONDS)
+                    : queue.offer(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            overflows.increment();
+            pending.result().completeExceptionally(
+                    new RejectedExecutionException("Event queue full, goal: " + event.getGoalId()));
+        }
+        return pending.result();
+    }
+
+    private void dispatch() {
+        List<PendingEvent> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingEvent first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatch - 1);
+                batchSize.record(batch.size());
+                batch.forEach(this::send);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(PendingEvent pending) {
+        GoalCompletedEvent event = pending.event();
+        long started = System.nanoTime();
         try {
             kafkaTemplate.send(TOPIC, event.getGoalId(), event)
                     .whenComplete((result, ex) -> {
+                        sendLatency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
                         if (ex == null) {
-                            log.info("Successfully published event to topic: {} with offset: {}", 
-                                TOPIC, result.getRecordMetadata().offset());
+                            log.debug("Published event for goal: {} with offset: {}",
+                                    event.getGoalId(), result.getRecordMetadata().offset());
+                            pending.result().complete(result);
                         } else {
+                            sendErrors.increment();
                             log.error("Failed to publish event to topic: {}", TOPIC, ex);
+                            pending.result().completeExceptionally(ex);
                         }
                     });
         } catch (Exception e) {
+            sendErrors.increment();
             log.error("Error publishing goal completed event", e);
+            pending.result().completeExceptionally(e);
         }
     }
 }
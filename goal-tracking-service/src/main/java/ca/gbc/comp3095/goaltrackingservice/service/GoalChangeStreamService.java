@@ -0,0 +1,97 @@
+package ca.gbc.comp3095.goaltrackingservice.service;
+
+import ca.gbc.comp3095.goaltrackingservice.dto.GoalChange;
+import ca.gbc.comp3095.goaltrackingservice.model.GoalTracking;
+import com.mongodb.client.model.changestream.FullDocument;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonValue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+/**
+ * Watches {@code goal_tracking} with one change stream per instance and fans the changes
+ * out to any number of subscribers.
+ * <p>
+ * Each subscriber gets its own buffer of {@code goals.stream.subscriber-buffer} changes.
+ * A subscriber that falls that far behind is completed and dropped, without slowing the
+ * change stream or the other subscribers.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class GoalChangeStreamService {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Value("${goals.stream.subscriber-buffer:256}")
+    private int subscriberBuffer;
+
+    private final Sinks.Many<GoalChange> changes = Sinks.many().multicast().directBestEffort();
+    private Disposable changeStream;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void watchGoals() {
+        changeStream = reactiveMongoTemplate.changeStream(GoalTracking.class)
+                .withOptions(options -> options.fullDocumentLookup(FullDocument.UPDATE_LOOKUP))
+                .watchCollection(GoalTracking.class)
+                .listen()
+                .map(GoalChangeStreamService::toGoalChange)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> log.warn("Goal change stream failed, reconnecting: {}",
+                                signal.failure().getMessage())))
+                .subscribe(change -> changes.tryEmitNext(change));
+    }
+
+    @PreDestroy
+    public void stopWatching() {
+        if (changeStream != null) {
+            changeStream.dispose();
+        }
+        changes.tryEmitComplete();
+    }
+
+    /**
+     * Changes from now on, optionally limited to one category and/or status (case-insensitive).
+     * Deletes are always included because the deleted goal's fields are no longer known.
+     */
+    public Flux<GoalChange> subscribe(String category, String status) {
+        return changes.asFlux()
+                .filter(change -> change.goal() == null
+                        || (matches(category, change.goal().getCategory()) && matches(status, change.goal().getStatus())))
+                .onBackpressureBuffer(subscriberBuffer, BufferOverflowStrategy.ERROR)
+                .onErrorResume(Exceptions::isOverflow, e -> {
+                    log.info("Dropping goal stream subscriber that fell more than {} changes behind", subscriberBuffer);
+                    return Flux.empty();
+                });
+    }
+
+    private static boolean matches(String filter, String value) {
+        return filter == null || filter.equalsIgnoreCase(value);
+    }
+
+    private static GoalChange toGoalChange(ChangeStreamEvent<GoalTracking> event) {
+        BsonValue id = event.getRaw() != null && event.getRaw().getDocumentKey() != null
+                ? event.getRaw().getDocumentKey().get("_id")
+                : null;
+        String goalId = id == null ? null : id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.toString();
+        String operation = event.getOperationType() != null
+                ? event.getOperationType().getValue()
+                : "unknown";
+        return new GoalChange(operation, goalId, event.getBody());
+    }
+}
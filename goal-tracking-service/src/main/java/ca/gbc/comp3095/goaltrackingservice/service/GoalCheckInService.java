@@ -0,0 +1,120 @@
+package ca.gbc.comp3095.goaltrackingservice.service;
+
+import ca.gbc.comp3095.goaltrackingservice.dto.CheckInRequest;
+import ca.gbc.comp3095.goaltrackingservice.dto.MonthlyProgress;
+import ca.gbc.comp3095.goaltrackingservice.model.GoalCheckInBucket;
+import ca.gbc.comp3095.goaltrackingservice.model.GoalCheckInBucket.CheckIn;
+import ca.gbc.comp3095.goaltrackingservice.repository.GoalTrackingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Progress check-ins stored with the bucket pattern in {@code goal_check_ins}.
+ * <p>
+ * A check-in is pushed onto its goal's bucket for the month with a single upsert that also
+ * bumps the bucket's count and total, so history reads touch about one document per month and
+ * the {@code goal_month} index grows with buckets rather than check-ins. Monthly progress is
+ * answered from the totals alone, without reading the embedded arrays.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class GoalCheckInService {
+
+    private final MongoTemplate mongoTemplate;
+    private final GoalTrackingRepository repository;
+
+    // Keeps buckets far below the 16MB document limit even for very chatty goals
+    @Value("${goals.check-ins.bucket-size:500}")
+    private int bucketSize;
+
+    public CheckIn addCheckIn(String goalId, CheckInRequest request) {
+        if (request.value() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "value is required");
+        }
+        if (!repository.existsById(goalId)) {
+            throw new RuntimeException("Goal not found with id: " + goalId);
+        }
+
+        CheckIn checkIn = CheckIn.builder()
+                .value(request.value())
+                .note(request.note())
+                .timestamp(request.timestamp() != null ? request.timestamp() : Instant.now())
+                .build();
+        String month = YearMonth.from(checkIn.getTimestamp().atZone(ZoneId.systemDefault())).toString();
+
+        // A full bucket no longer matches, so the upsert starts the next one
+        mongoTemplate.upsert(
+                Query.query(Criteria.where("goalId").is(goalId).and("month").is(month).and("count").lt(bucketSize)),
+                new Update()
+                        .push("checkIns", checkIn)
+                        .inc("count", 1)
+                        .inc("total", checkIn.getValue()),
+                GoalCheckInBucket.class);
+
+        log.info("Recorded check-in for goal: {} in {}", goalId, month);
+        return checkIn;
+    }
+
+    public List<CheckIn> getCheckIns(String goalId, LocalDate from, LocalDate to) {
+        Instant start = from.atStartOfDay(ZoneId.systemDefault()).toInstant();
+        Instant end = to.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant();
+
+        return findBuckets(goalId, from, to, false).stream()
+                .flatMap(bucket -> bucket.getCheckIns().stream())
+                .filter(checkIn -> !checkIn.getTimestamp().isBefore(start) && checkIn.getTimestamp().isBefore(end))
+                .sorted(Comparator.comparing(CheckIn::getTimestamp))
+                .toList();
+    }
+
+    public List<MonthlyProgress> getMonthlyProgress(String goalId, LocalDate from, LocalDate to) {
+        Map<String, long[]> counts = new LinkedHashMap<>();
+        Map<String, Double> totals = new LinkedHashMap<>();
+        for (GoalCheckInBucket bucket : findBuckets(goalId, from, to, true)) {
+            counts.computeIfAbsent(bucket.getMonth(), month -> new long[1])[0] += bucket.getCount();
+            totals.merge(bucket.getMonth(), bucket.getTotal(), Double::sum);
+        }
+        return counts.entrySet().stream()
+                .map(entry -> {
+                    long count = entry.getValue()[0];
+                    double total = totals.get(entry.getKey());
+                    return new MonthlyProgress(entry.getKey(), count, total, count > 0 ? total / count : 0);
+                })
+                .toList();
+    }
+
+    public void deleteCheckIns(String goalId) {
+        mongoTemplate.remove(Query.query(Criteria.where("goalId").is(goalId)), GoalCheckInBucket.class);
+    }
+
+    private List<GoalCheckInBucket> findBuckets(String goalId, LocalDate from, LocalDate to, boolean totalsOnly) {
+        if (to.isBefore(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "to must not be before from");
+        }
+        Query query = Query.query(Criteria.where("goalId").is(goalId)
+                        .and("month").gte(YearMonth.from(from).toString()).lte(YearMonth.from(to).toString()))
+                .with(Sort.by("month"));
+        if (totalsOnly) {
+            query.fields().exclude("checkIns");
+        }
+        return mongoTemplate.find(query, GoalCheckInBucket.class);
+    }
+}
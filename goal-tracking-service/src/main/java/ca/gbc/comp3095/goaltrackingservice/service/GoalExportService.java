@@ -0,0 +1,169 @@
+package ca.gbc.comp3095.goaltrackingservice.service;
+
+import ca.gbc.comp3095.goaltrackingservice.config.MongoIndexConfig;
+import ca.gbc.comp3095.goaltrackingservice.model.GoalTracking;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Writes goals as CSV or NDJSON straight from a Mongo cursor.
+ * <p>
+ * Documents are read in cursor batches of {@code goals.export.batch-size} and written as they
+ * arrive, so memory use does not depend on the number of goals exported. Filters and the field
+ * projection run in Mongo. Not transactional: a long export must not hold a transaction open.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class GoalExportService {
+
+    public static final List<String> FIELDS =
+            List.of("goalId", "ownerId", "title", "description", "targetDate", "status", "category");
+    private static final Set<String> FORMATS = Set.of("csv", "ndjson");
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${goals.export.batch-size:1000}")
+    private int defaultBatchSize;
+
+    @Value("${goals.export.max-batch-size:10000}")
+    private int maxBatchSize;
+
+    /**
+     * Checks the arguments up front, so a bad request fails before the response is committed.
+     */
+    public ExportRequest prepare(String format, String category, String status, List<String> fields, Integer batchSize) {
+        if (!FORMATS.contains(format)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "format must be one of " + FORMATS);
+        }
+        List<String> selected = fields == null || fields.isEmpty() ? FIELDS : fields;
+        for (String field : selected) {
+            if (!FIELDS.contains(field)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "fields must be among " + FIELDS);
+            }
+        }
+        int size = batchSize != null ? batchSize : defaultBatchSize;
+        if (size < 1 || size > maxBatchSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "batchSize must be between 1 and " + maxBatchSize);
+        }
+        return new ExportRequest(format, category, status, selected, size);
+    }
+
+    public record ExportRequest(String format, String category, String status, List<String> fields, int batchSize) {
+    }
+
+    public long export(ExportRequest request, OutputStream out) throws IOException {
+        // Raw documents skip entity mapping, so fields use their stored names
+        Query query = new Query()
+                .with(Sort.by("_id"))
+                .cursorBatchSize(request.batchSize());
+        if (request.category() != null) {
+            query.addCriteria(Criteria.where("category").is(request.category()));
+        }
+        if (request.status() != null) {
+            query.addCriteria(Criteria.where("status").is(request.status()));
+        }
+        // Only filters need case-insensitive matching; an unfiltered export walks the _id index in order
+        if (request.category() != null || request.status() != null) {
+            query.collation(MongoIndexConfig.CASE_INSENSITIVE);
+        }
+        request.fields().forEach(field -> query.fields().include(storedName(field)));
+        if (!request.fields().contains("goalId")) {
+            query.fields().exclude("_id");
+        }
+
+        long written = 0;
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        try (Stream<Document> goals = mongoTemplate.stream(query, Document.class, mongoTemplate.getCollectionName(GoalTracking.class));
+             JsonGenerator json = objectMapper.getFactory().createGenerator(writer)) {
+            json.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            // Documents are separated by the newline written after each one, not Jackson's default space
+            json.setRootValueSeparator(null);
+            if (request.format().equals("csv")) {
+                writer.write(String.join(",", request.fields()));
+                writer.write('\n');
+            }
+            for (Document goal : (Iterable<Document>) goals::iterator) {
+                if (request.format().equals("csv")) {
+                    writeCsv(writer, goal, request.fields());
+                } else {
+                    writeJson(json, goal, request.fields());
+                }
+                written++;
+            }
+            json.flush();
+        }
+        writer.flush();
+        log.info("Exported {} goals as {}", written, request.format());
+        return written;
+    }
+
+    private static void writeCsv(Writer writer, Document goal, List<String> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = value(goal, fields.get(i));
+            if (value != null) {
+                writer.write(csvEscape(value));
+            }
+        }
+        writer.write('\n');
+    }
+
+    // Stays in the generator's buffer; flushing per document would send each goal as its own chunk
+    private static void writeJson(JsonGenerator json, Document goal, List<String> fields) throws IOException {
+        json.writeStartObject();
+        for (String field : fields) {
+            json.writeStringField(field, value(goal, field));
+        }
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private static String value(Document goal, String field) {
+        Object value = goal.get(storedName(field));
+        return switch (value) {
+            case null -> null;
+            case ObjectId id -> id.toHexString();
+            // LocalDate fields are stored as midnight in the JVM's zone
+            case Date date -> date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().toString();
+            default -> value.toString();
+        };
+    }
+
+    private static String storedName(String field) {
+        return field.equals("goalId") ? "_id" : field;
+    }
+
+    private static String csvEscape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,366 @@
+package ca.gbc.comp3095.goaltrackingservice.service;
+
+import ca.gbc.comp3095.goaltrackingservice.event.GoalReminderEvent;
+import ca.gbc.comp3095.goaltrackingservice.model.GoalReminder;
+import ca.gbc.comp3095.goaltrackingservice.model.GoalTracking;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends a reminder to Kafka ahead of each open goal's target date.
+ * <p>
+ * Reminders are persisted in {@code goal_reminders}. Only those due within
+ * {@code goals.reminders.horizon} are held in memory, in a {@link HashedTimingWheel}, so
+ * memory is bounded by the look-ahead window rather than the number of goals. The window is
+ * topped up every {@code goals.reminders.load-interval-ms}. On startup every unsent reminder
+ * inside the window is loaded again, including ones that fell due while the service was down.
+ * <p>
+ * Due reminders are claimed in Mongo before sending, so each one is sent once even though every
+ * instance loads the same window. A claim that is never acknowledged by Kafka expires after
+ * {@code goals.reminders.claim-timeout}, and every load picks up expired claims however long ago
+ * the reminder fell due.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class GoalReminderService {
+
+    private static final String TOPIC = "goal-reminder-events";
+
+    private final MongoTemplate mongoTemplate;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${goals.reminders.lead:1d}")
+    private Duration lead;
+
+    @Value("${goals.reminders.time-of-day:09:00}")
+    private LocalTime timeOfDay;
+
+    @Value("${goals.reminders.horizon:1h}")
+    private Duration horizon;
+
+    @Value("${goals.reminders.tick:1s}")
+    private Duration tick;
+
+    @Value("${goals.reminders.wheel-size:4096}")
+    private int wheelSize;
+
+    @Value("${goals.reminders.batch-size:500}")
+    private int batchSize;
+
+    @Value("${goals.reminders.claim-timeout:5m}")
+    private Duration claimTimeout;
+
+    @Value("${goals.reminders.retry-delay:30s}")
+    private Duration retryDelay;
+
+    private HashedTimingWheel<String> wheel;
+    private final Map<String, HashedTimingWheel<String>.Timeout> timeouts = new HashMap<>();
+
+    // Reminders due before this have been loaded into the wheel
+    private Instant loadedUntil;
+
+    // Goals scheduled or cancelled while a load is reading Mongo; the load leaves them as they are
+    private Set<String> changedDuringLoad;
+
+    private Counter sent;
+    private Counter failed;
+    private volatile boolean running;
+    private Thread ticker;
+
+    @PostConstruct
+    public void start() {
+        wheel = new HashedTimingWheel<>(tick, wheelSize, System.currentTimeMillis());
+        Gauge.builder("goals.reminders.pending", this, service -> service.pendingInWheel())
+                .description("Reminders held in the in-memory timing wheel")
+                .register(meterRegistry);
+        sent = Counter.builder("goals.reminders.sent")
+                .description("Reminders acknowledged by Kafka")
+                .register(meterRegistry);
+        failed = Counter.builder("goals.reminders.failed")
+                .description("Reminders Kafka failed to acknowledge; they are retried")
+                .register(meterRegistry);
+
+        running = true;
+        ticker = Thread.ofPlatform().name("goal-reminder-wheel").daemon().start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        ticker.interrupt();
+        ticker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * Persists the reminder for an open goal, replacing any earlier one, and places it in the
+     * wheel when it falls inside the loaded window. Goals without a target date, completed goals
+     * and reminders already in the past are cancelled instead.
+     */
+    public void schedule(GoalTracking goal) {
+        Instant remindAt = remindAt(goal);
+        if (remindAt == null) {
+            cancel(goal.getGoalId());
+            return;
+        }
+
+        GoalReminder existing = mongoTemplate.findById(goal.getGoalId(), GoalReminder.class);
+        if (existing != null && existing.getSentAt() != null && remindAt.equals(existing.getRemindAt())) {
+            return;
+        }
+
+        mongoTemplate.findAndReplace(Query.query(Criteria.where("goalId").is(goal.getGoalId())),
+                toReminder(goal, remindAt), FindAndReplaceOptions.options().upsert());
+
+        synchronized (this) {
+            unschedule(goal.getGoalId());
+            if (changedDuringLoad != null) {
+                changedDuringLoad.add(goal.getGoalId());
+            }
+            if (loadedUntil != null && remindAt.isBefore(loadedUntil)) {
+                timeouts.put(goal.getGoalId(), wheel.schedule(goal.getGoalId(), remindAt.toEpochMilli()));
+            }
+        }
+    }
+
+    /**
+     * Schedules reminders for goals that were just created and so have none yet, in one bulk insert.
+     */
+    public void scheduleNew(List<GoalTracking> goals) {
+        List<GoalReminder> reminders = new ArrayList<>(goals.size());
+        for (GoalTracking goal : goals) {
+            Instant remindAt = remindAt(goal);
+            if (remindAt != null) {
+                reminders.add(toReminder(goal, remindAt));
+            }
+        }
+        if (reminders.isEmpty()) {
+            return;
+        }
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, GoalReminder.class).insert(reminders).execute();
+
+        synchronized (this) {
+            for (GoalReminder reminder : reminders) {
+                if (changedDuringLoad != null) {
+                    changedDuringLoad.add(reminder.getGoalId());
+                }
+                if (loadedUntil != null && reminder.getRemindAt().isBefore(loadedUntil)) {
+                    timeouts.put(reminder.getGoalId(),
+                            wheel.schedule(reminder.getGoalId(), reminder.getRemindAt().toEpochMilli()));
+                }
+            }
+        }
+    }
+
+    public void cancel(String goalId) {
+        cancel(List.of(goalId));
+    }
+
+    public void cancel(List<String> goalIds) {
+        if (goalIds.isEmpty()) {
+            return;
+        }
+        // Sent reminders are left for the sent_ttl index to expire
+        mongoTemplate.remove(Query.query(Criteria.where("goalId").in(goalIds).and("sentAt").is(null)), GoalReminder.class);
+        synchronized (this) {
+            goalIds.forEach(this::unschedule);
+            if (changedDuringLoad != null) {
+                changedDuringLoad.addAll(goalIds);
+            }
+        }
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${goals.reminders.load-interval-ms:600000}")
+    public void loadWindow() {
+        Instant now = Instant.now();
+        Instant until = now.plus(horizon);
+        Instant from;
+        Set<String> changed = new HashSet<>();
+        // Widen the window before reading, so a reminder saved from here on is placed in the wheel
+        // by schedule() itself; one saved earlier is in the read below
+        synchronized (this) {
+            from = loadedUntil;
+            loadedUntil = until;
+            changedDuringLoad = changed;
+        }
+
+        // The first load picks up everything overdue as well, which is how reminders survive a restart
+        Criteria window = from == null
+                ? Criteria.where("remindAt").lt(until)
+                : Criteria.where("remindAt").gte(from).lt(until);
+        // Expired claims are retried whenever the reminder fell due, not just inside the new window
+        Criteria due = Criteria.where("sentAt").is(null).orOperator(
+                window.and("claimedAt").is(null),
+                Criteria.where("claimedAt").lt(now.minus(claimTimeout)));
+        Query query = Query.query(due);
+        query.fields().include("remindAt");
+
+        List<GoalReminder> reminders;
+        try {
+            reminders = mongoTemplate.find(query, GoalReminder.class);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                loadedUntil = from;
+                changedDuringLoad = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            for (GoalReminder reminder : reminders) {
+                // What schedule() or cancel() did during the read is newer than what was read
+                if (!changed.contains(reminder.getGoalId())) {
+                    unschedule(reminder.getGoalId());
+                    timeouts.put(reminder.getGoalId(), wheel.schedule(reminder.getGoalId(), reminder.getRemindAt().toEpochMilli()));
+                }
+            }
+            changedDuringLoad = null;
+        }
+        log.debug("Loaded {} reminders due before {}", reminders.size(), until);
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                List<String> due;
+                synchronized (this) {
+                    due = wheel.advance(System.currentTimeMillis());
+                    due.forEach(timeouts::remove);
+                }
+                for (int from = 0; from < due.size(); from += batchSize) {
+                    fire(due.subList(from, Math.min(due.size(), from + batchSize)));
+                }
+                Thread.sleep(tick);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Goal reminder tick failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void fire(List<String> goalIds) {
+        Instant now = Instant.now();
+        String claim = UUID.randomUUID().toString();
+
+        // Reminders that were cancelled, moved later or claimed elsewhere drop out here
+        Criteria claimable = Criteria.where("goalId").in(goalIds)
+                .and("sentAt").is(null)
+                .and("remindAt").lte(now)
+                .orOperator(Criteria.where("claimedAt").is(null), Criteria.where("claimedAt").lt(now.minus(claimTimeout)));
+        mongoTemplate.updateMulti(Query.query(claimable),
+                new Update().set("claimedAt", now).set("claimId", claim), GoalReminder.class);
+        List<GoalReminder> claimed = mongoTemplate.find(Query.query(Criteria.where("claimId").is(claim)), GoalReminder.class);
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        // Records are handed to the producer together and go out in the same producer batches
+        List<CompletableFuture<SendResult<String, Object>>> results = new ArrayList<>(claimed.size());
+        for (GoalReminder reminder : claimed) {
+            results.add(kafkaTemplate.send(TOPIC, reminder.getGoalId(), toEvent(reminder)));
+        }
+
+        List<String> acknowledged = new ArrayList<>(claimed.size());
+        List<String> retry = new ArrayList<>();
+        for (int i = 0; i < claimed.size(); i++) {
+            try {
+                results.get(i).join();
+                acknowledged.add(claimed.get(i).getGoalId());
+            } catch (RuntimeException e) {
+                retry.add(claimed.get(i).getGoalId());
+            }
+        }
+
+        if (!acknowledged.isEmpty()) {
+            mongoTemplate.updateMulti(Query.query(Criteria.where("goalId").in(acknowledged)),
+                    new Update().set("sentAt", Instant.now()).unset("claimId"), GoalReminder.class);
+            sent.increment(acknowledged.size());
+        }
+        if (!retry.isEmpty()) {
+            mongoTemplate.updateMulti(Query.query(Criteria.where("goalId").in(retry).and("claimId").is(claim)),
+                    new Update().unset("claimedAt").unset("claimId"), GoalReminder.class);
+            failed.increment(retry.size());
+            long retryAt = System.currentTimeMillis() + retryDelay.toMillis();
+            synchronized (this) {
+                retry.forEach(goalId -> timeouts.put(goalId, wheel.schedule(goalId, retryAt)));
+            }
+            log.warn("Kafka did not acknowledge {} goal reminders; retrying in {}", retry.size(), retryDelay);
+        }
+        log.info("Sent {} goal reminders", acknowledged.size());
+    }
+
+    private void unschedule(String goalId) {
+        HashedTimingWheel<String>.Timeout timeout = timeouts.remove(goalId);
+        if (timeout != null) {
+            wheel.cancel(timeout);
+        }
+    }
+
+    private synchronized int pendingInWheel() {
+        return wheel.size();
+    }
+
+    // Null when the goal should have no reminder: no target date, completed, or already past
+    private Instant remindAt(GoalTracking goal) {
+        if (goal.getTargetDate() == null || "completed".equalsIgnoreCase(goal.getStatus())) {
+            return null;
+        }
+        Instant remindAt = goal.getTargetDate().atTime(timeOfDay).atZone(ZoneId.systemDefault()).toInstant().minus(lead);
+        return remindAt.isBefore(Instant.now()) ? null : remindAt;
+    }
+
+    private static GoalReminder toReminder(GoalTracking goal, Instant remindAt) {
+        return GoalReminder.builder()
+                .goalId(goal.getGoalId())
+                .ownerId(goal.getOwnerId())
+                .title(goal.getTitle())
+                .targetDate(goal.getTargetDate())
+                .remindAt(remindAt)
+                .build();
+    }
+
+    private static GoalReminderEvent toEvent(GoalReminder reminder) {
+        return GoalReminderEvent.builder()
+                .goalId(reminder.getGoalId())
+                .ownerId(reminder.getOwnerId())
+                .title(reminder.getTitle())
+                .targetDate(reminder.getTargetDate())
+                .remindAt(LocalDateTime.ofInstant(reminder.getRemindAt(), ZoneId.systemDefault()))
+                .eventType("GOAL_REMINDER")
+                .build();
+    }
+}
@@ -0,0 +1,218 @@
+package ca.gbc.comp3095.goaltrackingservice.service;
+
+import ca.gbc.comp3095.goaltrackingservice.dto.GoalStats;
+import ca.gbc.comp3095.goaltrackingservice.model.GoalCounter;
+import ca.gbc.comp3095.goaltrackingservice.model.GoalTracking;
+import com.mongodb.bulk.BulkWriteResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
+import org.springframework.data.mongodb.core.aggregation.StringOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * Goal counts by category, status and target date, kept in the {@code goal_counters} collection.
+ * <p>
+ * Every goal write adjusts the affected counters with {@code $inc}. Inside a goal transaction the
+ * increments are held until it commits, so concurrent writes to a hot counter never conflict with
+ * the goal writes themselves. Target dates are only counted for goals that are not completed, so
+ * the overdue count is the sum of the counters dated before today. A periodic aggregation over
+ * {@code goal_tracking}, run by one instance at a time, corrects any drift, such as increments
+ * lost to a crash after commit or writes made outside this service.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class GoalStatsService {
+
+    private static final String CATEGORY = "category";
+    private static final String STATUS = "status";
+    private static final String DUE = "due";
+    private static final String LEASE = "goal-stats-reconcile";
+
+    private final MongoTemplate mongoTemplate;
+    private final LeaseService leaseService;
+
+    @Value("${goals.stats.lease:10m}")
+    private Duration lease;
+
+    public GoalStats getStats() {
+        Map<String, Long> byCategory = new TreeMap<>();
+        Map<String, Long> byStatus = new TreeMap<>();
+        String today = LocalDate.now().toString();
+        long overdue = 0;
+
+        for (GoalCounter counter : mongoTemplate.findAll(GoalCounter.class)) {
+            if (counter.getCount() <= 0) {
+                continue;
+            }
+            switch (counter.getDimension()) {
+                case CATEGORY -> byCategory.put(counter.getValue(), counter.getCount());
+                case STATUS -> byStatus.put(counter.getValue(), counter.getCount());
+                case DUE -> overdue += counter.getValue().compareTo(today) < 0 ? counter.getCount() : 0;
+                default -> log.warn("Ignoring goal counter with unknown dimension: {}", counter.getId());
+            }
+        }
+
+        long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+        return new GoalStats(total, byCategory, byStatus, overdue);
+    }
+
+    public void recordChange(GoalTracking before, GoalTracking after) {
+        recordChanges(before != null ? List.of(before) : List.of(), after != null ? List.of(after) : List.of());
+    }
+
+    public void recordChanges(List<GoalTracking> before, List<GoalTracking> after) {
+        Map<String, Long> deltas = new HashMap<>();
+        before.forEach(goal -> counterIds(goal).forEach(id -> deltas.merge(id, -1L, Long::sum)));
+        after.forEach(goal -> counterIds(goal).forEach(id -> deltas.merge(id, 1L, Long::sum)));
+        deltas.values().removeIf(delta -> delta == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyDeltas(deltas);
+                }
+            });
+        } else {
+            applyDeltas(deltas);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${goals.stats.reconcile-initial-delay-ms:60000}",
+            fixedDelayString = "${goals.stats.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        if (!leaseService.tryAcquire(LEASE, lease)) {
+            return;
+        }
+        try {
+            // Counters are read before goals are counted; a counter an $inc moves before the bulk write
+            // no longer matches its snapshot below, so it is left for the next run. A goal that commits
+            // before countGoals() but whose afterCommit $inc lands after the bulk write is counted twice;
+            // nothing here can tell that $inc apart, so the counter stays one off until the next run
+            List<GoalCounter> existing = mongoTemplate.findAll(GoalCounter.class);
+            Map<String, Long> actual = countGoals();
+
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, GoalCounter.class);
+            int corrections = 0;
+            for (GoalCounter counter : existing) {
+                Long count = actual.remove(counter.getId());
+                Query unchanged = Query.query(Criteria.where("id").is(counter.getId()).and("count").is(counter.getCount()));
+                if (count == null) {
+                    bulk.remove(unchanged);
+                    corrections++;
+                } else if (count != counter.getCount()) {
+                    bulk.updateOne(unchanged, Update.update("count", count));
+                    corrections++;
+                }
+            }
+            for (Map.Entry<String, Long> missing : actual.entrySet()) {
+                // An $inc may have created the counter since it was read; the upsert then leaves it alone
+                bulk.upsert(Query.query(Criteria.where("id").is(missing.getKey())),
+                        counterUpdate(missing.getKey()).setOnInsert("count", missing.getValue()));
+                corrections++;
+            }
+
+            if (corrections > 0) {
+                BulkWriteResult result = bulk.execute();
+                int applied = result.getModifiedCount() + result.getDeletedCount() + result.getUpserts().size();
+                log.info("Reconciled {} of {} drifted goal counters", applied, corrections);
+            }
+        } finally {
+            leaseService.release(LEASE);
+        }
+    }
+
+    private void applyDeltas(Map<String, Long> deltas) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, GoalCounter.class);
+        deltas.forEach((id, delta) ->
+                bulk.upsert(Query.query(Criteria.where("id").is(id)), counterUpdate(id).inc("count", delta)));
+        try {
+            bulk.execute();
+        } catch (RuntimeException e) {
+            // The goal write has already committed; reconcile() repairs the counters on its next run
+            log.warn("Failed to update goal counters {}: {}", deltas.keySet(), e.getMessage());
+        }
+    }
+
+    private static Update counterUpdate(String id) {
+        int separator = id.indexOf(':');
+        return new Update()
+                .setOnInsert("dimension", id.substring(0, separator))
+                .setOnInsert("value", id.substring(separator + 1));
+    }
+
+    private Map<String, Long> countGoals() {
+        // LocalDate target dates are stored as midnight in the JVM's zone, so format them in that zone
+        String zone = ZoneId.systemDefault().getId();
+        Aggregation aggregation = Aggregation.newAggregation(Aggregation
+                .facet(groupCount(Criteria.where(CATEGORY).type(JsonSchemaObject.Type.STRING),
+                        StringOperators.valueOf(CATEGORY).toLower()))
+                .as(CATEGORY)
+                .and(groupCount(Criteria.where(STATUS).type(JsonSchemaObject.Type.STRING),
+                        StringOperators.valueOf(STATUS).toLower()))
+                .as(STATUS)
+                .and(groupCount(Criteria.where("targetDate").type(JsonSchemaObject.Type.DATE)
+                                .and(STATUS).not().regex("^completed$", "i"),
+                        DateOperators.dateOf("targetDate").withTimezone(DateOperators.Timezone.valueOf(zone))
+                                .toString("%Y-%m-%d")))
+                .as(DUE));
+
+        Document result = mongoTemplate.aggregate(aggregation, GoalTracking.class, Document.class)
+                .getUniqueMappedResult();
+        Map<String, Long> counts = new HashMap<>();
+        if (result != null) {
+            for (String dimension : List.of(CATEGORY, STATUS, DUE)) {
+                for (Document group : result.getList(dimension, Document.class, List.of())) {
+                    counts.put(dimension + ":" + group.getString("_id"), ((Number) group.get("count")).longValue());
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static AggregationOperation[] groupCount(Criteria filter, AggregationExpression key) {
+        return new AggregationOperation[]{
+                Aggregation.match(filter),
+                Aggregation.project().and(key).as("key"),
+                Aggregation.group("key").count().as("count")
+        };
+    }
+
+    static List<String> counterIds(GoalTracking goal) {
+        List<String> ids = new ArrayList<>(3);
+        if (goal.getCategory() != null) {
+            ids.add(CATEGORY + ":" + goal.getCategory().toLowerCase(Locale.ROOT));
+        }
+        if (goal.getStatus() != null) {
+            ids.add(STATUS + ":" + goal.getStatus().toLowerCase(Locale.ROOT));
+        }
+        if (goal.getTargetDate() != null && !"completed".equalsIgnoreCase(goal.getStatus())) {
+            ids.add(DUE + ":" + goal.getTargetDate());
+        }
+        return ids;
+    }
+}
@@ -1,7 +1,14 @@
 package ca.gbc.comp3095.goaltrackingservice.service;
 
+import ca.gbc.comp3095.goaltrackingservice.dto.BulkCompletionRequest;
+import ca.gbc.comp3095.goaltrackingservice.dto.GoalCompletionResult;
+import ca.gbc.comp3095.goaltrackingservice.dto.GoalCreationResult;
+import ca.gbc.comp3095.goaltrackingservice.dto.GoalSearchResults;
+import ca.gbc.comp3095.goaltrackingservice.dto.GoalSummary;
 import ca.gbc.comp3095.goaltrackingservice.dto.GoalTrackingRequest;
 import ca.gbc.comp3095.goaltrackingservice.model.GoalTracking;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,17 +17,57 @@ public interface GoalTrackingService {
 
     List<GoalTracking> getAllGoals();
 
+    List<GoalTracking> getGoals(String after, Integer limit);
+
+    Flux<GoalTracking> streamAllGoals();
+
+    // Non-blocking reads backed by the reactive Mongo driver
+
+    Mono<GoalTracking> getGoalByIdReactive(String id);
+
+    Flux<GoalTracking> getGoalsByCategoryReactive(String category);
+
+    Flux<GoalTracking> getGoalsByStatusReactive(String status);
+
+    Flux<GoalTracking> getGoalsByOwnerReactive(String ownerId);
+
     Optional<GoalTracking> getGoalById(String id);
 
     List<GoalTracking> getGoalsByCategory(String category);
 
+    List<GoalTracking> getGoalsByCategory(String category, String after, Integer limit);
+
     List<GoalTracking> getGoalsByStatus(String status);
 
-    GoalTracking createGoal(GoalTrackingRequest request);
+    List<GoalTracking> getGoalsByStatus(String status, String after, Integer limit);
+
+    List<GoalTracking> getGoalsByOwner(String ownerId, String status);
+
+    // Summary views of the list reads above, projected to the fields a list needs
+
+    List<GoalSummary> getGoalSummaries();
+
+    List<GoalSummary> getGoalSummaries(String after, Integer limit);
+
+    List<GoalSummary> getGoalSummariesByCategory(String category);
+
+    List<GoalSummary> getGoalSummariesByCategory(String category, String after, Integer limit);
+
+    List<GoalSummary> getGoalSummariesByStatus(String status);
+
+    List<GoalSummary> getGoalSummariesByStatus(String status, String after, Integer limit);
+
+    GoalSearchResults searchGoals(String query, String category, String status, String after, Integer limit);
+
+    GoalTracking createGoal(GoalTrackingRequest request, String ownerId);
+
+    List<GoalCreationResult> createGoals(List<GoalTrackingRequest> requests, String ownerId, boolean ordered);
 
     GoalTracking updateGoal(String id, GoalTrackingRequest request);
 
     GoalTracking markGoalAsCompleted(String id);
 
+    List<GoalCompletionResult> markGoalsAsCompleted(BulkCompletionRequest request);
+
     void deleteGoal(String id);
 }
\ No newline at end of file
@@ -1,26 +1,85 @@
 package ca.gbc.comp3095.goaltrackingservice.service;
 
+import ca.gbc.comp3095.goaltrackingservice.config.MongoIndexConfig;
+import ca.gbc.comp3095.goaltrackingservice.dto.BulkCompletionRequest;
+import ca.gbc.comp3095.goaltrackingservice.dto.GoalCompletionResult;
+import ca.gbc.comp3095.goaltrackingservice.dto.GoalCreationResult;
+import ca.gbc.comp3095.goaltrackingservice.dto.GoalSearchResults;
+import ca.gbc.comp3095.goaltrackingservice.dto.GoalSummary;
 import ca.gbc.comp3095.goaltrackingservice.dto.GoalTrackingRequest;
 import ca.gbc.comp3095.goaltrackingservice.event.GoalCompletedEvent;
 import ca.gbc.comp3095.goaltrackingservice.model.GoalTracking;
+import ca.gbc.comp3095.goaltrackingservice.model.OutboxEvent;
 import ca.gbc.comp3095.goaltrackingservice.repository.GoalTrackingRepository;
+import ca.gbc.comp3095.goaltrackingservice.repository.OutboxEventRepository;
+import ca.gbc.comp3095.goaltrackingservice.repository.ReactiveGoalTrackingRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
-@Transactional
 public class GoalTrackingServiceImpl implements GoalTrackingService {
 
+    // Lower bound for the first keyset page: every generated ObjectId sorts after it
+    private static final ObjectId FIRST_PAGE = new ObjectId(new byte[12]);
+
+    private static final String SEARCH_SCORE = "score";
+
+    // Set on goals by the bulk completion that completed them; not mapped on GoalTracking
+    private static final String COMPLETION_ID = "completionId";
+
     private final GoalTrackingRepository repository;
-    private final EventPublisher eventPublisher;
+    private final ReactiveGoalTrackingRepository reactiveRepository;
+    private final OutboxEventRepository outboxRepository;
+    private final MongoTemplate mongoTemplate;
+    private final GoalStatsService goalStatsService;
+    private final GoalReminderService goalReminderService;
+    private final GoalCheckInService goalCheckInService;
+
+    @Value("${goals.pagination.default-limit:100}")
+    private int defaultPageLimit;
+
+    @Value("${goals.pagination.max-limit:1000}")
+    private int maxPageLimit;
+
+    @Value("${goals.bulk.max-goals:1000}")
+    private int maxBulkGoals;
+
+    @Value("${goals.bulk.max-create:50000}")
+    private int maxBulkCreate;
+
+    @Value("${goals.bulk.chunk-size:1000}")
+    private int bulkChunkSize;
 
     @Override
     public List<GoalTracking> getAllGoals() {
@@ -28,6 +87,40 @@ public class GoalTrackingServiceImpl implements GoalTrackingService {
         return repository.findAll();
     }
 
+    @Override
+    public List<GoalTracking> getGoals(String after, Integer limit) {
+        log.info("Fetching page of goals after: {}", after);
+        return repository.findPageAfter(toCursor(after), toPage(limit));
+    }
+
+    @Override
+    public Flux<GoalTracking> streamAllGoals() {
+        log.info("Streaming all goals");
+        // Demand from the response writer is propagated to the driver cursor, so only
+        // one batch of documents is held in memory at a time
+        return reactiveRepository.findAll(Sort.by("goalId"));
+    }
+
+    @Override
+    public Mono<GoalTracking> getGoalByIdReactive(String id) {
+        return reactiveRepository.findById(id);
+    }
+
+    @Override
+    public Flux<GoalTracking> getGoalsByCategoryReactive(String category) {
+        return reactiveRepository.findByCategory(category);
+    }
+
+    @Override
+    public Flux<GoalTracking> getGoalsByStatusReactive(String status) {
+        return reactiveRepository.findByStatus(status);
+    }
+
+    @Override
+    public Flux<GoalTracking> getGoalsByOwnerReactive(String ownerId) {
+        return reactiveRepository.findByOwner(ownerId);
+    }
+
     @Override
     public Optional<GoalTracking> getGoalById(String id) {
         log.info("Fetching goal with id: {}", id);
@@ -37,24 +130,123 @@ public class GoalTrackingServiceImpl implements GoalTrackingService {
     @Override
     public List<GoalTracking> getGoalsByCategory(String category) {
         log.info("Fetching goals for category: {}", category);
-        return repository.findAll().stream()
-                .filter(goal -> goal.getCategory() != null && goal.getCategory().equalsIgnoreCase(category))
-                .toList();
+        return repository.findByCategory(category);
+    }
+
+    @Override
+    public List<GoalTracking> getGoalsByCategory(String category, String after, Integer limit) {
+        log.info("Fetching page of goals for category: {} after: {}", category, after);
+        return repository.findByCategoryPageAfter(category, toCursor(after), toPage(limit));
     }
 
     @Override
     public List<GoalTracking> getGoalsByStatus(String status) {
         log.info("Fetching goals with status: {}", status);
-        return repository.findAll().stream()
-                .filter(goal -> goal.getStatus() != null && goal.getStatus().equalsIgnoreCase(status))
+        return repository.findByStatus(status);
+    }
+
+    @Override
+    public List<GoalTracking> getGoalsByStatus(String status, String after, Integer limit) {
+        log.info("Fetching page of goals with status: {} after: {}", status, after);
+        return repository.findByStatusPageAfter(status, toCursor(after), toPage(limit));
+    }
+
+    @Override
+    public List<GoalTracking> getGoalsByOwner(String ownerId, String status) {
+        log.info("Fetching goals owned by: {} with status: {}", ownerId, status);
+        return status != null
+                ? repository.findByOwnerAndStatus(ownerId, "^" + Pattern.quote(status) + "$")
+                : repository.findByOwner(ownerId);
+    }
+
+    @Override
+    public List<GoalSummary> getGoalSummaries() {
+        log.info("Fetching summaries of all goals");
+        return repository.findAllSummaries();
+    }
+
+    @Override
+    public List<GoalSummary> getGoalSummaries(String after, Integer limit) {
+        log.info("Fetching page of goal summaries after: {}", after);
+        return repository.findSummaryPageAfter(toCursor(after), toPage(limit));
+    }
+
+    @Override
+    public List<GoalSummary> getGoalSummariesByCategory(String category) {
+        log.info("Fetching goal summaries for category: {}", category);
+        return repository.findSummariesByCategory(category);
+    }
+
+    @Override
+    public List<GoalSummary> getGoalSummariesByCategory(String category, String after, Integer limit) {
+        log.info("Fetching page of goal summaries for category: {} after: {}", category, after);
+        return repository.findSummariesByCategoryPageAfter(category, toCursor(after), toPage(limit));
+    }
+
+    @Override
+    public List<GoalSummary> getGoalSummariesByStatus(String status) {
+        log.info("Fetching goal summaries with status: {}", status);
+        return repository.findSummariesByStatus(status);
+    }
+
+    @Override
+    public List<GoalSummary> getGoalSummariesByStatus(String status, String after, Integer limit) {
+        log.info("Fetching page of goal summaries with status: {} after: {}", status, after);
+        return repository.findSummariesByStatusPageAfter(status, toCursor(after), toPage(limit));
+    }
+
+    @Override
+    public GoalSearchResults searchGoals(String query, String category, String status, String after, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "q must not be blank");
+        }
+        log.info("Searching goals for: {}", query);
+        int size = toPage(limit).getPageSize();
+
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(Aggregation.match(TextCriteria.forDefaultLanguage().matching(query)));
+        // The text index only supports simple collation, so filters match case-insensitively by regex
+        if (category != null) {
+            stages.add(Aggregation.match(Criteria.where("category").regex("^" + Pattern.quote(category) + "$", "i")));
+        }
+        if (status != null) {
+            stages.add(Aggregation.match(Criteria.where("status").regex("^" + Pattern.quote(status) + "$", "i")));
+        }
+        stages.add(context -> new Document("$addFields",
+                new Document(SEARCH_SCORE, new Document("$meta", "textScore"))));
+        if (after != null && !after.isBlank()) {
+            SearchCursor cursor = SearchCursor.decode(after);
+            stages.add(Aggregation.match(new Criteria().orOperator(
+                    Criteria.where(SEARCH_SCORE).lt(cursor.score()),
+                    Criteria.where(SEARCH_SCORE).is(cursor.score()).and("_id").gt(cursor.goalId()))));
+        }
+        stages.add(Aggregation.sort(Sort.by(Sort.Order.desc(SEARCH_SCORE), Sort.Order.asc("_id"))));
+        // One extra result tells us whether there is a next page
+        stages.add(Aggregation.limit(size + 1));
+
+        List<Document> hits = mongoTemplate
+                .aggregate(Aggregation.newAggregation(stages), mongoTemplate.getCollectionName(GoalTracking.class),
+                        Document.class)
+                .getMappedResults();
+
+        List<GoalTracking> goals = hits.stream()
+                .limit(size)
+                .map(hit -> mongoTemplate.getConverter().read(GoalTracking.class, hit))
                 .toList();
+        String next = null;
+        if (hits.size() > size) {
+            Document last = hits.get(size - 1);
+            next = new SearchCursor(last.getDouble(SEARCH_SCORE), last.getObjectId("_id")).encode();
+        }
+        return new GoalSearchResults(goals, next);
     }
 
     @Override
-    public GoalTracking createGoal(GoalTrackingRequest request) {
+    public GoalTracking createGoal(GoalTrackingRequest request, String ownerId) {
         log.info("Creating new goal: {}", request.title());
 
         GoalTracking goal = GoalTracking.builder()
+                .ownerId(ownerId)
                 .title(request.title())
                 .description(request.description())
                 .targetDate(request.targetDate())
@@ -62,7 +254,102 @@ public class GoalTrackingServiceImpl implements GoalTrackingService {
                 .category(request.category())
                 .build();
 
-        return repository.save(goal);
+        GoalTracking savedGoal = repository.save(goal);
+        goalStatsService.recordChange(null, savedGoal);
+        goalReminderService.schedule(savedGoal);
+        return savedGoal;
+    }
+
+    @Override
+    // Not transactional: an unordered write keeps the goals that succeeded, which an aborted
+    // transaction would throw away along with the failures
+    public List<GoalCreationResult> createGoals(List<GoalTrackingRequest> requests, String ownerId, boolean ordered) {
+        if (requests == null || requests.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Provide at least one goal");
+        }
+        if (requests.size() > maxBulkCreate) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + maxBulkCreate + " goals per request");
+        }
+        log.info("Bulk creating {} goals", requests.size());
+
+        GoalCreationResult[] results = new GoalCreationResult[requests.size()];
+        List<Integer> positions = new ArrayList<>();
+        List<GoalTracking> valid = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            GoalTrackingRequest request = requests.get(i);
+            if (request == null || request.title() == null || request.title().isBlank()) {
+                results[i] = new GoalCreationResult(i, null, "title is required");
+                continue;
+            }
+            positions.add(i);
+            // Ids are assigned here so every result can name its goal, whatever the write outcome
+            valid.add(GoalTracking.builder()
+                    .goalId(new ObjectId().toHexString())
+                    .ownerId(ownerId)
+                    .title(request.title())
+                    .description(request.description())
+                    .targetDate(request.targetDate())
+                    .status(request.status() != null ? request.status() : "in-progress")
+                    .category(request.category())
+                    .build());
+        }
+        boolean stopped = false;
+        if (ordered && valid.size() < requests.size()) {
+            // Like an ordered write, stop at the first invalid goal but keep the ones before it
+            int firstInvalid = 0;
+            while (results[firstInvalid] == null) {
+                firstInvalid++;
+            }
+            while (!positions.isEmpty() && positions.get(positions.size() - 1) > firstInvalid) {
+                int position = positions.remove(positions.size() - 1);
+                valid.remove(valid.size() - 1);
+                results[position] = new GoalCreationResult(position, null, "Not attempted: an earlier goal failed");
+            }
+        }
+
+        for (int from = 0; from < valid.size(); from += bulkChunkSize) {
+            int to = Math.min(valid.size(), from + bulkChunkSize);
+            if (stopped) {
+                for (int i = from; i < to; i++) {
+                    results[positions.get(i)] = new GoalCreationResult(positions.get(i), null, "Not attempted: an earlier goal failed");
+                }
+                continue;
+            }
+
+            List<GoalTracking> chunk = valid.subList(from, to);
+            Map<Integer, String> errors = new HashMap<>();
+            try {
+                mongoTemplate.bulkOps(ordered ? BulkOperations.BulkMode.ORDERED : BulkOperations.BulkMode.UNORDERED,
+                                GoalTracking.class)
+                        .insert(chunk)
+                        .execute();
+            } catch (BulkOperationException e) {
+                e.getErrors().forEach(error -> errors.put(error.getIndex(), error.getMessage()));
+                if (ordered) {
+                    // An ordered write stops at its first error; nothing after it was attempted
+                    int failed = e.getErrors().get(0).getIndex();
+                    for (int i = failed + 1; i < chunk.size(); i++) {
+                        errors.put(i, "Not attempted: an earlier goal failed");
+                    }
+                    stopped = true;
+                }
+            }
+
+            List<GoalTracking> inserted = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                int position = positions.get(from + i);
+                String error = errors.get(i);
+                if (error == null) {
+                    inserted.add(chunk.get(i));
+                    results[position] = new GoalCreationResult(position, chunk.get(i).getGoalId(), null);
+                } else {
+                    results[position] = new GoalCreationResult(position, null, error);
+                }
+            }
+            goalStatsService.recordChanges(List.of(), inserted);
+            goalReminderService.scheduleNew(inserted);
+        }
+        return Arrays.asList(results);
     }
 
     @Override
@@ -70,6 +357,7 @@ public class GoalTrackingServiceImpl implements GoalTrackingService {
         log.info("Updating goal with id: {}", id);
         GoalTracking goal = repository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Goal not found with id: " + id));
+        GoalTracking before = goal.toBuilder().build();
 
         goal.setTitle(request.title());
         goal.setDescription(request.description());
@@ -77,35 +365,226 @@ public class GoalTrackingServiceImpl implements GoalTrackingService {
         goal.setStatus(request.status());
         goal.setCategory(request.category());
 
-        return repository.save(goal);
+        GoalTracking savedGoal = repository.save(goal);
+        goalStatsService.recordChange(before, savedGoal);
+        goalReminderService.schedule(savedGoal);
+        return savedGoal;
     }
 
     @Override
+    @Transactional
     public GoalTracking markGoalAsCompleted(String id) {
         log.info("Marking goal as completed: {}", id);
-        GoalTracking goal = repository.findById(id)
+
+        // Only the request that actually moves the goal to completed gets a document back,
+        // so concurrent or retried completions cannot emit a second event
+        Criteria goal = byGoalAndOwner(id)
                 .orElseThrow(() -> new RuntimeException("Goal not found with id: " + id));
+        GoalTracking before = mongoTemplate.findAndModify(
+                notCompleted(goal),
+                Update.update("status", "completed"),
+                GoalTracking.class);
 
-        goal.setStatus("completed");
-        GoalTracking savedGoal = repository.save(goal);
+        if (before == null) {
+            log.debug("Goal {} is already completed or does not exist", id);
+            return repository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Goal not found with id: " + id));
+        }
 
-        // Publish Kafka event
-        GoalCompletedEvent event = GoalCompletedEvent.builder()
-                .goalId(savedGoal.getGoalId())
-                .title(savedGoal.getTitle())
-                .category(savedGoal.getCategory())
-                .targetDate(savedGoal.getTargetDate())
-                .completedAt(LocalDateTime.now())
-                .build();
+        GoalTracking completedGoal = before.toBuilder().status("completed").build();
+        goalStatsService.recordChange(before, completedGoal);
+        goalReminderService.cancel(id);
 
-        eventPublisher.publishGoalCompletedEvent(event);
+        // Committed in the same transaction as the status change; OutboxRelay publishes it to Kafka
+        outboxRepository.save(toOutboxEvent(completedGoal, Instant.now()));
 
-        return savedGoal;
+        return completedGoal;
+    }
+
+    @Override
+    @Transactional
+    public List<GoalCompletionResult> markGoalsAsCompleted(BulkCompletionRequest request) {
+        List<GoalTracking> goals = findGoalsToComplete(request);
+        log.info("Bulk completing {} goals", goals.size());
+
+        List<GoalTracking> toComplete = goals.stream()
+                .filter(goal -> !"completed".equalsIgnoreCase(goal.getStatus()))
+                .toList();
+
+        Set<String> completedHere = Set.of();
+        if (!toComplete.isEmpty()) {
+            // Tags the goals this request moves to completed; a goal completed concurrently by
+            // someone else fails the notCompleted predicate and keeps its own (or no) tag
+            String completionId = new ObjectId().toHexString();
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, GoalTracking.class);
+            toComplete.forEach(goal -> bulk.updateOne(
+                    notCompleted(Criteria.where("goalId").is(goal.getGoalId()).and("ownerId").is(goal.getOwnerId())),
+                    Update.update("status", "completed").set(COMPLETION_ID, completionId)));
+            int modified = bulk.execute().getModifiedCount();
+
+            completedHere = modified == toComplete.size()
+                    ? toComplete.stream().map(GoalTracking::getGoalId).collect(Collectors.toSet())
+                    : findCompletedBy(completionId, toComplete);
+            if (modified < toComplete.size()) {
+                log.info("{} of {} goals were completed concurrently", toComplete.size() - modified, toComplete.size());
+            }
+            // The tag is only needed to read back this request's goals, so it goes in the same transaction
+            mongoTemplate.updateMulti(
+                    Query.query(Criteria.where("goalId").in(completedHere).and(COMPLETION_ID).is(completionId)),
+                    new Update().unset(COMPLETION_ID),
+                    GoalTracking.class);
+        }
+
+        // Counters, reminders and events follow only the goals this request actually changed
+        Set<String> changed = completedHere;
+        List<GoalTracking> before = toComplete.stream()
+                .filter(goal -> changed.contains(goal.getGoalId()))
+                .toList();
+        if (!before.isEmpty()) {
+            List<GoalTracking> completed = before.stream()
+                    .map(goal -> goal.toBuilder().status("completed").build())
+                    .toList();
+            goalStatsService.recordChanges(before, completed);
+            goalReminderService.cancel(before.stream().map(GoalTracking::getGoalId).toList());
+
+            Instant now = Instant.now();
+            outboxRepository.insert(completed.stream().map(goal -> toOutboxEvent(goal, now)).toList());
+        }
+
+        Map<String, GoalTracking> found = goals.stream()
+                .collect(Collectors.toMap(GoalTracking::getGoalId, Function.identity()));
+        List<String> requestedIds = request.goalIds() != null && !request.goalIds().isEmpty()
+                ? request.goalIds().stream().distinct().toList()
+                : goals.stream().map(GoalTracking::getGoalId).toList();
+
+        return requestedIds.stream()
+                .map(id -> {
+                    if (!found.containsKey(id)) {
+                        return new GoalCompletionResult(id, GoalCompletionResult.Outcome.NOT_FOUND);
+                    }
+                    return new GoalCompletionResult(id, changed.contains(id)
+                            ? GoalCompletionResult.Outcome.COMPLETED
+                            : GoalCompletionResult.Outcome.ALREADY_COMPLETED);
+                })
+                .toList();
+    }
+
+    private Set<String> findCompletedBy(String completionId, List<GoalTracking> candidates) {
+        Query query = Query.query(Criteria.where("goalId").in(candidates.stream().map(GoalTracking::getGoalId).toList())
+                .and(COMPLETION_ID).is(completionId));
+        query.fields().include("goalId");
+        return mongoTemplate.find(query, GoalTracking.class).stream()
+                .map(GoalTracking::getGoalId)
+                .collect(Collectors.toSet());
     }
 
     @Override
     public void deleteGoal(String id) {
         log.info("Deleting goal with id: {}", id);
-        repository.deleteById(id);
+        GoalTracking removed = byGoalAndOwner(id)
+                .map(goal -> mongoTemplate.findAndRemove(Query.query(goal), GoalTracking.class))
+                .orElse(null);
+        if (removed != null) {
+            goalStatsService.recordChange(removed, null);
+            goalReminderService.cancel(id);
+            goalCheckInService.deleteCheckIns(id);
+        }
+    }
+
+    private ObjectId toCursor(String after) {
+        if (after == null || after.isBlank()) {
+            return FIRST_PAGE;
+        }
+        if (!ObjectId.isValid(after)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "after must be a goalId: " + after);
+        }
+        return new ObjectId(after);
+    }
+
+    // Search results are ordered by (score desc, _id asc), so a page resumes after the last pair
+    private record SearchCursor(double score, ObjectId goalId) {
+
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((score + ":" + goalId.toHexString()).getBytes(StandardCharsets.UTF_8));
+        }
+
+        static SearchCursor decode(String after) {
+            try {
+                String value = new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8);
+                int separator = value.lastIndexOf(':');
+                return new SearchCursor(Double.parseDouble(value.substring(0, separator)),
+                        new ObjectId(value.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "after is not a search cursor: " + after);
+            }
+        }
+    }
+
+    private Pageable toPage(Integer limit) {
+        int size = limit != null ? limit : defaultPageLimit;
+        if (size < 1 || size > maxPageLimit) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + maxPageLimit);
+        }
+        return PageRequest.ofSize(size);
+    }
+
+    private List<GoalTracking> findGoalsToComplete(BulkCompletionRequest request) {
+        if (request.goalIds() != null && !request.goalIds().isEmpty()) {
+            if (request.goalIds().size() > maxBulkGoals) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + maxBulkGoals + " goals per request");
+            }
+            return repository.findAllById(request.goalIds());
+        }
+
+        Criteria filter = new Criteria();
+        if (request.category() != null) {
+            filter.and("category").is(request.category());
+        }
+        if (request.status() != null) {
+            filter.and("status").is(request.status());
+        }
+        if (request.category() == null && request.status() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Provide goalIds or a category/status filter");
+        }
+
+        Query query = Query.query(filter)
+                .collation(MongoIndexConfig.CASE_INSENSITIVE)
+                .limit(maxBulkGoals + 1);
+        List<GoalTracking> goals = mongoTemplate.find(query, GoalTracking.class);
+        if (goals.size() > maxBulkGoals) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Filter matches more than " + maxBulkGoals + " goals; narrow it or pass goalIds");
+        }
+        return goals;
+    }
+
+    // Single-document writes carry the shard key so they are routed to the owner's shard; the
+    // owner is read first because callers only know the goalId
+    private Optional<Criteria> byGoalAndOwner(String id) {
+        Query query = Query.query(Criteria.where("goalId").is(id));
+        query.fields().include("ownerId");
+        return Optional.ofNullable(mongoTemplate.findOne(query, GoalTracking.class))
+                .map(goal -> Criteria.where("goalId").is(id).and("ownerId").is(goal.getOwnerId()));
+    }
+
+    private static Query notCompleted(Criteria criteria) {
+        return Query.query(criteria.and("status").ne("completed"))
+                .collation(MongoIndexConfig.CASE_INSENSITIVE);
+    }
+
+    private static OutboxEvent toOutboxEvent(GoalTracking goal, Instant now) {
+        GoalCompletedEvent event = GoalCompletedEvent.builder()
+                .goalId(goal.getGoalId())
+                .title(goal.getTitle())
+                .category(goal.getCategory())
+                .targetDate(goal.getTargetDate())
+                .completedAt(LocalDateTime.now())
+                .build();
+        return OutboxEvent.builder()
+                .goalId(goal.getGoalId())
+                .event(event)
+                .createdAt(now)
+                .build();
     }
 }
@@ -0,0 +1,124 @@
+package ca.gbc.comp3095.goaltrackingservice.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A hashed timing wheel: a ring of {@code wheelSize} buckets, one per tick, each holding a
+ * doubly linked list of timeouts.
+ * <p>
+ * A timeout lands in the bucket of its deadline tick and remembers how many full turns of the
+ * wheel remain before it is due, so scheduling and cancelling are O(1) whatever the number of
+ * pending timeouts. {@link #advance(long)} visits one bucket per elapsed tick. Deadlines are
+ * resolved to the tick, and deadlines already in the past fire on the next advance.
+ * <p>
+ * Not thread-safe on its own; callers synchronize.
+ */
+public class HashedTimingWheel<T> {
+
+    public final class Timeout {
+
+        private final T value;
+        private long remainingRounds;
+        private Timeout previous;
+        private Timeout next;
+        private int bucket = -1;
+
+        private Timeout(T value) {
+            this.value = value;
+        }
+
+        public T value() {
+            return value;
+        }
+    }
+
+    private final long tickMillis;
+    private final int mask;
+    private final long startMillis;
+    private final Timeout[] heads;
+
+    // Absolute index of the next tick to process, counted from startMillis
+    private long tick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(Duration tickDuration, int wheelSize, long startMillis) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two: " + wheelSize);
+        }
+        this.tickMillis = tickDuration.toMillis();
+        this.mask = wheelSize - 1;
+        this.startMillis = startMillis;
+        this.heads = (Timeout[]) new HashedTimingWheel<?>.Timeout[wheelSize];
+    }
+
+    public Timeout schedule(T value, long deadlineMillis) {
+        long deadlineTick = Math.max(tick, Math.floorDiv(deadlineMillis - startMillis, tickMillis));
+        Timeout timeout = new Timeout(value);
+        timeout.remainingRounds = (deadlineTick - tick) / heads.length;
+        link(timeout, (int) (deadlineTick & mask));
+        return timeout;
+    }
+
+    public boolean cancel(Timeout timeout) {
+        if (timeout.bucket < 0) {
+            return false;
+        }
+        unlink(timeout);
+        return true;
+    }
+
+    /**
+     * Processes every tick up to and including the one containing {@code nowMillis} and returns
+     * the values that became due, in tick order.
+     */
+    public List<T> advance(long nowMillis) {
+        List<T> due = new ArrayList<>();
+        long currentTick = Math.floorDiv(nowMillis - startMillis, tickMillis);
+        for (; tick <= currentTick; tick++) {
+            Timeout timeout = heads[(int) (tick & mask)];
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    unlink(timeout);
+                    due.add(timeout.value);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+        return due;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void link(Timeout timeout, int bucket) {
+        timeout.bucket = bucket;
+        timeout.next = heads[bucket];
+        if (heads[bucket] != null) {
+            heads[bucket].previous = timeout;
+        }
+        heads[bucket] = timeout;
+        size++;
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.previous != null) {
+            timeout.previous.next = timeout.next;
+        } else {
+            heads[timeout.bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        }
+        timeout.previous = null;
+        timeout.next = null;
+        timeout.bucket = -1;
+        size--;
+    }
+}
@@ -0,0 +1,57 @@
+package ca.gbc.comp3095.goaltrackingservice.service;
+
+import ca.gbc.comp3095.goaltrackingservice.model.SchedulerLease;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Time-limited leases in {@code scheduler_leases} so a scheduled job runs on one instance at a time.
+ * <p>
+ * A lease is taken with a single upsert that only matches when it is expired or already ours;
+ * when another instance holds it the upsert collides on {@code _id} and the caller backs off.
+ * Leases expire on their own, so an instance that dies mid-run blocks the job for at most one lease.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class LeaseService {
+
+    private final MongoTemplate mongoTemplate;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    public boolean tryAcquire(String name, Duration duration) {
+        Instant now = Instant.now();
+        Query query = Query.query(Criteria.where("id").is(name)
+                .orOperator(Criteria.where("lockedUntil").lt(now), Criteria.where("owner").is(owner)));
+        Update update = new Update()
+                .set("owner", owner)
+                .set("lockedUntil", now.plus(duration));
+        try {
+            mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true), SchedulerLease.class);
+            return true;
+        } catch (DuplicateKeyException e) {
+            log.debug("Lease {} is held by another instance", name);
+            return false;
+        }
+    }
+
+    public void release(String name) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("id").is(name).and("owner").is(owner)),
+                Update.update("lockedUntil", Instant.now()),
+                SchedulerLease.class);
+    }
+}
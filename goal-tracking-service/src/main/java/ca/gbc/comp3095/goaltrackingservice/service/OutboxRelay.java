@@ -0,0 +1,197 @@
+package ca.gbc.comp3095.goaltrackingservice.service;
+
+import ca.gbc.comp3095.goaltrackingservice.model.OutboxEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Publishes outbox events to Kafka in {@code _id} order and marks them once acknowledged.
+ * <p>
+ * A change stream on the outbox collection wakes the relay as soon as an event is committed;
+ * the scheduled poll picks up anything missed while the stream was down. Nothing is tracked
+ * in memory between runs, so after a restart the relay resumes at the oldest unpublished event.
+ * Every instance watches the outbox, but a lease lets only one of them drain it at a time, so
+ * each event is sent once rather than once per instance. Sending a batch can block on the
+ * publisher queue and on Kafka acknowledgements, so the lease is renewed whenever half of it has
+ * passed, not just between batches, and the drain stops once another instance has taken it.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private static final String LEASE = "outbox-relay";
+
+    private final MongoTemplate mongoTemplate;
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final EventPublisher eventPublisher;
+    private final LeaseService leaseService;
+
+    @Value("${goals.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${goals.outbox.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${goals.outbox.lease:1m}")
+    private Duration lease;
+
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+    private Disposable changeStream;
+
+    // Only touched by the thread holding drainLock
+    private boolean leaseHeld;
+    private Instant leaseRenewAt;
+
+    @PostConstruct
+    public void validateLease() {
+        // Waiting on one acknowledgement must not outlast the half-lease between renewals
+        if (lease.toMillis() < 2 * sendTimeoutMs) {
+            throw new IllegalStateException("goals.outbox.lease (" + lease + ") must be at least twice "
+                    + "goals.outbox.send-timeout-ms (" + sendTimeoutMs + ")");
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void watchOutbox() {
+        changeStream = reactiveMongoTemplate.changeStream(Document.class)
+                .watchCollection(OutboxEvent.COLLECTION)
+                .filter(Criteria.where("operationType").is("insert"))
+                .listen()
+                // Collapse bursts of inserts into a single drain
+                .onBackpressureLatest()
+                .publishOn(Schedulers.boundedElastic(), 1)
+                .doOnNext(change -> drain())
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> log.warn("Outbox change stream failed, falling back to polling: {}",
+                                signal.failure().getMessage())))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stopWatching() {
+        if (changeStream != null) {
+            changeStream.dispose();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${goals.outbox.poll-interval-ms:5000}")
+    public void drain() {
+        drainRequested.set(true);
+        // A caller that loses the race leaves the flag set, so the running drain goes round again
+        while (drainRequested.get() && drainLock.tryLock()) {
+            try {
+                drainRequested.set(false);
+                drainAll();
+            } catch (RuntimeException e) {
+                log.error("Error draining goal outbox", e);
+            } finally {
+                drainLock.unlock();
+            }
+        }
+    }
+
+    private void drainAll() {
+        if (!leaseService.tryAcquire(LEASE, lease)) {
+            log.debug("Outbox is being drained by another instance");
+            return;
+        }
+        leaseHeld = true;
+        leaseRenewAt = Instant.now().plus(lease.dividedBy(2));
+        try {
+            int published;
+            do {
+                List<OutboxEvent> batch = mongoTemplate.find(
+                        Query.query(Criteria.where("publishedAt").is(null))
+                                .with(Sort.by("id"))
+                                .limit(batchSize),
+                        OutboxEvent.class);
+                if (batch.isEmpty()) {
+                    return;
+                }
+                published = publish(batch);
+            } while (published == batchSize && leaseHeld);
+        } finally {
+            leaseService.release(LEASE);
+        }
+    }
+
+    private int publish(List<OutboxEvent> batch) {
+        List<CompletableFuture<SendResult<String, Object>>> sends = new ArrayList<>(batch.size());
+        for (OutboxEvent outboxEvent : batch) {
+            if (!renewLease()) {
+                log.warn("Outbox lease taken over by another instance; stopping after {} events", sends.size());
+                break;
+            }
+            sends.add(eventPublisher.publishGoalCompletedEvent(outboxEvent.getEvent()));
+        }
+
+        // Only acknowledge the prefix that succeeded so a failed event is retried in order. Events
+        // already handed to Kafka are still recorded if the lease is lost while waiting for them.
+        List<String> acknowledged = new ArrayList<>();
+        for (int i = 0; i < sends.size(); i++) {
+            renewLease();
+            try {
+                sends.get(i).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+                acknowledged.add(batch.get(i).getId());
+            } catch (ExecutionException | TimeoutException e) {
+                log.warn("Outbox event {} not acknowledged by Kafka, will retry", batch.get(i).getId());
+                break;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        if (!acknowledged.isEmpty()) {
+            mongoTemplate.updateMulti(
+                    Query.query(Criteria.where("id").in(acknowledged)),
+                    Update.update("publishedAt", Instant.now()),
+                    OutboxEvent.class);
+            log.info("Relayed {} goal completed events from the outbox", acknowledged.size());
+        }
+        return acknowledged.size();
+    }
+
+    // Renews the lease once half of it has passed; false once it has been lost
+    private boolean renewLease() {
+        Instant now = Instant.now();
+        if (!leaseHeld || now.isBefore(leaseRenewAt)) {
+            return leaseHeld;
+        }
+        leaseHeld = leaseService.tryAcquire(LEASE, lease);
+        leaseRenewAt = now.plus(lease.dividedBy(2));
+        return leaseHeld;
+    }
+}
@@ -0,0 +1,145 @@
+package ca.gbc.comp3095.goaltrackingservice.service;
+
+import ca.gbc.comp3095.goaltrackingservice.config.MongoIndexConfig;
+import ca.gbc.comp3095.goaltrackingservice.model.GoalTracking;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Moves in-progress goals whose target date has passed to {@code overdue}.
+ * <p>
+ * Each pass reads the oldest expired goals from the {@code status_target_date_ci} index in
+ * pages of {@code goals.overdue.batch-size} and transitions each page with one
+ * {@code updateMany}. Transitioned goals leave the index range being scanned, so every pass
+ * starts from the front and only ever reads goals that are newly overdue. A lease makes sure
+ * only one instance scans at a time.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OverdueGoalScanner {
+
+    private static final String LEASE = "overdue-goal-scanner";
+    private static final String ACTIVE = "in-progress";
+    private static final String OVERDUE = "overdue";
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoTransactionManager transactionManager;
+    private final GoalStatsService goalStatsService;
+    private final LeaseService leaseService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${goals.overdue.batch-size:500}")
+    private int batchSize;
+
+    @Value("${goals.overdue.max-batches:20}")
+    private int maxBatches;
+
+    @Value("${goals.overdue.lease:5m}")
+    private Duration lease;
+
+    private TransactionTemplate transactionTemplate;
+    private Counter transitioned;
+    private Timer scanDuration;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transitioned = Counter.builder("goals.overdue.transitioned")
+                .description("Goals moved from in-progress to overdue")
+                .register(meterRegistry);
+        scanDuration = Timer.builder("goals.overdue.scan.duration")
+                .description("Time taken by a scan that held the lease")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${goals.overdue.scan-interval-ms:60000}",
+            fixedDelayString = "${goals.overdue.scan-interval-ms:60000}")
+    public void scan() {
+        if (!leaseService.tryAcquire(LEASE, lease)) {
+            countScan("skipped");
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        LocalDate today = LocalDate.now();
+        int total = 0;
+        int batches = 0;
+        try {
+            int moved;
+            boolean leaseHeld = true;
+            do {
+                moved = transactionTemplate.execute(status -> transitionBatch(today));
+                total += moved;
+                batches++;
+                // Renew between batches so a long backlog cannot outlive the lease; once another
+                // instance has taken it over, leave the rest of the backlog to that instance
+                if (moved == batchSize && batches < maxBatches) {
+                    leaseHeld = leaseService.tryAcquire(LEASE, lease);
+                }
+            } while (leaseHeld && moved == batchSize && batches < maxBatches);
+
+            countScan(leaseHeld ? "completed" : "lease-lost");
+            if (total > 0) {
+                log.info("Marked {} goals overdue in {} batches", total, batches);
+            }
+        } catch (RuntimeException e) {
+            countScan("failed");
+            log.warn("Overdue goal scan stopped after marking {} goals: {}", total, e.getMessage());
+        } finally {
+            sample.stop(scanDuration);
+            leaseService.release(LEASE);
+        }
+    }
+
+    private int transitionBatch(LocalDate today) {
+        Query page = Query.query(expiredBefore(today))
+                .with(Sort.by("targetDate"))
+                .limit(batchSize)
+                .collation(MongoIndexConfig.CASE_INSENSITIVE);
+        page.fields().include("category", "status", "targetDate");
+        List<GoalTracking> expired = mongoTemplate.find(page, GoalTracking.class);
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        List<String> ids = expired.stream().map(GoalTracking::getGoalId).toList();
+        long modified = mongoTemplate.updateMulti(
+                Query.query(expiredBefore(today).and("goalId").in(ids)).collation(MongoIndexConfig.CASE_INSENSITIVE),
+                Update.update("status", OVERDUE),
+                GoalTracking.class).getModifiedCount();
+
+        // The read and the update share a transaction, so every goal read was the one updated
+        goalStatsService.recordChanges(expired, expired.stream()
+                .map(goal -> goal.toBuilder().status(OVERDUE).build())
+                .toList());
+        transitioned.increment(modified);
+        return expired.size();
+    }
+
+    private static Criteria expiredBefore(LocalDate today) {
+        return Criteria.where("status").is(ACTIVE).and("targetDate").lt(today);
+    }
+
+    private void countScan(String result) {
+        meterRegistry.counter("goals.overdue.scans", "result", result).increment();
+    }
+}
@@ -0,0 +1,90 @@
+package ca.gbc.comp3095.goaltrackingservice.service;
+
+import ca.gbc.comp3095.goaltrackingservice.client.CategoryResourceCache;
+import ca.gbc.comp3095.goaltrackingservice.client.WellnessResourceClient;
+import ca.gbc.comp3095.goaltrackingservice.dto.WellnessResource;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves wellness resources for a category from {@link CategoryResourceCache} where possible.
+ * <p>
+ * Fresh entries never leave the process. A stale entry is returned immediately while one
+ * background call refreshes it; only categories with nothing cached wait on the remote call.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SuggestedResourceService {
+
+    private final WellnessResourceClient wellnessResourceClient;
+    private final CategoryResourceCache categoryResourceCache;
+
+    private final ExecutorService refreshExecutor = Executors.newFixedThreadPool(2,
+            Thread.ofPlatform().name("resource-cache-refresh-", 0).daemon().factory());
+
+    public List<WellnessResource> getResourcesByCategory(String category) {
+        Optional<List<WellnessResource>> fresh = categoryResourceCache.getFresh(category);
+        if (fresh.isPresent()) {
+            return fresh.get();
+        }
+
+        Optional<List<WellnessResource>> stale = categoryResourceCache.getStale(category);
+        if (stale.isPresent()) {
+            if (categoryResourceCache.startRefresh(category)) {
+                refreshExecutor.execute(() -> refresh(category));
+            }
+            return stale.get();
+        }
+
+        return wellnessResourceClient.getResourcesByCategory(category);
+    }
+
+    /**
+     * Same lookup as {@link #getResourcesByCategory(String)} without blocking the caller: cache
+     * hits complete immediately and misses complete when wellness-resource-service answers.
+     */
+    public Mono<List<WellnessResource>> getResourcesByCategoryReactive(String category) {
+        Optional<List<WellnessResource>> fresh = categoryResourceCache.getFresh(category);
+        if (fresh.isPresent()) {
+            return Mono.just(fresh.get());
+        }
+
+        Optional<List<WellnessResource>> stale = categoryResourceCache.getStale(category);
+        if (stale.isPresent()) {
+            if (categoryResourceCache.startRefresh(category)) {
+                wellnessResourceClient.getResourcesByCategoryReactive(category)
+                        .doFinally(signal -> categoryResourceCache.finishRefresh(category))
+                        .subscribe(resources -> { },
+                                e -> log.warn("Background refresh failed for category: {} - {}", category, e.getMessage()));
+            }
+            return Mono.just(stale.get());
+        }
+
+        return wellnessResourceClient.getResourcesByCategoryReactive(category);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void refresh(String category) {
+        try {
+            // Successful calls repopulate the cache from within the client
+            wellnessResourceClient.getResourcesByCategory(category);
+        } catch (Exception e) {
+            log.warn("Background refresh failed for category: {} - {}", category, e.getMessage());
+        } finally {
+            categoryResourceCache.finishRefresh(category);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package ca.gbc.comp3095.goaltrackingservice;
+
+import ca.gbc.comp3095.goaltrackingservice.event.FileSchemaRegistry;
+import ca.gbc.comp3095.goaltrackingservice.event.GoalCompletedEvent;
+import ca.gbc.comp3095.goaltrackingservice.event.GoalCompletedEventAvroCodec;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Compares message size and serialization throughput of the JSON and Avro encodings of
+ * goal-completed-events. Not a test; run the main method from the IDE or the test classpath.
+ */
+public class GoalCompletedEventCodecBenchmark {
+
+    private static final String TOPIC = "goal-completed-events";
+    private static final int EVENTS = 10_000;
+    private static final int ROUNDS = 20;
+
+    public static void main(String[] args) throws Exception {
+        List<GoalCompletedEvent> events = IntStream.range(0, EVENTS)
+                .mapToObj(i -> GoalCompletedEvent.builder()
+                        .goalId("%024x".formatted(i))
+                        .title("Goal " + i)
+                        .category(List.of("fitness", "mindfulness", "sleep", "nutrition").get(i % 4))
+                        .targetDate(LocalDate.now().plusDays(i % 90))
+                        .completedAt(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS))
+                        .eventType("GOAL_COMPLETED")
+                        .build())
+                .toList();
+
+        try (JsonSerializer<GoalCompletedEvent> jsonSerializer = new JsonSerializer<>();
+             JsonDeserializer<GoalCompletedEvent> jsonDeserializer = new JsonDeserializer<>(GoalCompletedEvent.class, false)) {
+            jsonSerializer.setAddTypeInfo(false);
+            run("json", events,
+                    event -> jsonSerializer.serialize(TOPIC, event),
+                    bytes -> jsonDeserializer.deserialize(TOPIC, bytes));
+        }
+
+        GoalCompletedEventAvroCodec avroCodec = new GoalCompletedEventAvroCodec(
+                new FileSchemaRegistry(Files.createTempDirectory("schema-registry")));
+        run("avro", events, avroCodec::encode, avroCodec::decode);
+    }
+
+    private static void run(String name, List<GoalCompletedEvent> events,
+                            Function<GoalCompletedEvent, byte[]> serialize,
+                            Function<byte[], GoalCompletedEvent> deserialize) {
+        List<byte[]> encoded = events.stream().map(serialize).toList();
+        double averageSize = encoded.stream().mapToInt(bytes -> bytes.length).average().orElse(0);
+
+        // First half of the rounds warms up the JIT
+        long serializeNanos = 0;
+        long deserializeNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            events.forEach(serialize::apply);
+            long serialized = System.nanoTime();
+            encoded.forEach(deserialize::apply);
+            long deserialized = System.nanoTime();
+            if (round >= ROUNDS / 2) {
+                serializeNanos += serialized - start;
+                deserializeNanos += deserialized - serialized;
+            }
+        }
+
+        long measured = (long) EVENTS * (ROUNDS - ROUNDS / 2);
+        System.out.printf("%-5s avg %6.1f bytes/event  serialize %,10.0f events/s  deserialize %,10.0f events/s%n",
+                name, averageSize, measured / (serializeNanos / 1e9), measured / (deserializeNanos / 1e9));
+    }
+}
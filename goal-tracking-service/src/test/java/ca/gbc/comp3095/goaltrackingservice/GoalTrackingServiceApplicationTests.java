@@ -1,13 +1,26 @@
 package ca.gbc.comp3095.goaltrackingservice;
 
+import ca.gbc.comp3095.goaltrackingservice.config.MongoIndexConfig;
+import ca.gbc.comp3095.goaltrackingservice.model.GoalCheckInBucket;
+import ca.gbc.comp3095.goaltrackingservice.model.GoalReminder;
+import ca.gbc.comp3095.goaltrackingservice.model.GoalTracking;
+import ca.gbc.comp3095.goaltrackingservice.service.OverdueGoalScanner;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -16,7 +29,21 @@ import org.testcontainers.containers.MongoDBContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @Testcontainers
@@ -32,6 +59,15 @@ class GoalTrackingServiceApplicationTests {
     @LocalServerPort
     private Integer port;
 
+    @Autowired
+    private OverdueGoalScanner overdueGoalScanner;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MongoIndexConfig mongoIndexConfig;
+
     @DynamicPropertySource
     static void configureProperties(DynamicPropertyRegistry registry) {
         registry.add("spring.kafka.bootstrap-servers", kafkaContainer::getBootstrapServers);
@@ -140,6 +176,20 @@ class GoalTrackingServiceApplicationTests {
                 .body("category", Matchers.hasItem("Second Category"));
     }
 
+    @Test
+    void getGoalsByCategoryIgnoresCaseTest() {
+        createGoalAndReturnId("Collation Title", "Collation Description", "Collation Category", "in-progress");
+
+        RestAssured.given()
+                .when()
+                .get("/api/goals/category/COLLATION category")
+                .then()
+                .log().all()
+                .statusCode(HttpStatus.OK.value())
+                .body("size()", Matchers.equalTo(1))
+                .body("title", Matchers.hasItem("Collation Title"));
+    }
+
     @Test
     void getGoalsByStatusTest() {
         String targetDate = LocalDate.now().plusDays(30).toString();
@@ -170,6 +220,472 @@ class GoalTrackingServiceApplicationTests {
                 .body("size()", Matchers.greaterThan(0));
     }
 
+    @Test
+    void getGoalsWithCursorPaginationTest() {
+        String first = createGoalAndReturnId("Page One", "Page Description", "Paging Category", "in-progress");
+        String second = createGoalAndReturnId("Page Two", "Page Description", "Paging Category", "in-progress");
+
+        RestAssured.given()
+                .when()
+                .get("/api/goals/category/Paging Category?limit=1")
+                .then()
+                .log().all()
+                .statusCode(HttpStatus.OK.value())
+                .body("size()", Matchers.equalTo(1))
+                .body("[0].goalId", Matchers.equalTo(first));
+
+        RestAssured.given()
+                .when()
+                .get("/api/goals/category/Paging Category?after=" + first + "&limit=1")
+                .then()
+                .log().all()
+                .statusCode(HttpStatus.OK.value())
+                .body("size()", Matchers.equalTo(1))
+                .body("[0].goalId", Matchers.equalTo(second));
+
+        RestAssured.given()
+                .when()
+                .get("/api/goals?after=not-a-goal-id")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    void streamAllGoalsAsNdjsonTest() {
+        String id = createGoalAndReturnId("Streamed Title", "Streamed Description", "Streamed Category", "in-progress");
+
+        String body = RestAssured.given()
+                .accept("application/x-ndjson")
+                .when()
+                .get("/api/goals")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(Matchers.startsWith("application/x-ndjson"))
+                .extract()
+                .asString();
+
+        assertTrue(body.lines().anyMatch(line -> line.contains(id)));
+    }
+
+    @Test
+    void markGoalsAsCompletedInBulkTest() {
+        String first = createGoalAndReturnId("Bulk One", "Bulk Description", "Bulk Category", "in-progress");
+        String second = createGoalAndReturnId("Bulk Two", "Bulk Description", "Bulk Category", "completed");
+        String missing = "000000000000000000000000";
+
+        RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        { "goalIds": ["%s", "%s", "%s"] }
+                        """.formatted(first, second, missing))
+                .when()
+                .patch("/api/goals/complete")
+                .then()
+                .log().all()
+                .statusCode(HttpStatus.OK.value())
+                .body("size()", Matchers.equalTo(3))
+                .body("find { it.goalId == '%s' }.outcome".formatted(first), Matchers.equalTo("COMPLETED"))
+                .body("find { it.goalId == '%s' }.outcome".formatted(second), Matchers.equalTo("ALREADY_COMPLETED"))
+                .body("find { it.goalId == '%s' }.outcome".formatted(missing), Matchers.equalTo("NOT_FOUND"));
+
+        RestAssured.given()
+                .when()
+                .get("/api/goals/" + first)
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("status", Matchers.equalTo("completed"));
+    }
+
+    @Test
+    void getGoalStatsTest() {
+        String id = createGoalAndReturnId("Stats Title", "Stats Description", "Stats Category", "in-progress");
+
+        RestAssured.given()
+                .when()
+                .get("/api/goals/stats")
+                .then()
+                .log().all()
+                .statusCode(HttpStatus.OK.value())
+                .body("byCategory.'stats category'", Matchers.equalTo(1))
+                .body("byStatus.'in-progress'", Matchers.greaterThan(0));
+
+        RestAssured.given()
+                .when()
+                .delete("/api/goals/{id}", id)
+                .then()
+                .statusCode(HttpStatus.NO_CONTENT.value());
+
+        RestAssured.given()
+                .when()
+                .get("/api/goals/stats")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("byCategory.'stats category'", Matchers.nullValue());
+    }
+
+    @Test
+    void streamGoalChangesTest() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/api/goals/stream?category=live%20category"))
+                .header("Accept", "text/event-stream")
+                .build();
+        HttpResponse<Stream<String>> response = client.send(request, HttpResponse.BodyHandlers.ofLines());
+        assertEquals(HttpStatus.OK.value(), response.statusCode());
+
+        String id = createGoalAndReturnId("Live Title", "Live Description", "Live Category", "in-progress");
+
+        CompletableFuture<Boolean> received = CompletableFuture.supplyAsync(() ->
+                response.body().anyMatch(line -> line.startsWith("data:") && line.contains(id)));
+        assertTrue(received.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void overdueGoalScannerTest() {
+        String requestBody = """
+                {
+                   "title": "Expired Title",
+                   "description": "Expired Description",
+                   "targetDate": "%s",
+                   "status": "in-progress",
+                   "category": "Expired Category"
+                }
+                """.formatted(LocalDate.now().minusDays(3));
+        String expired = RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body(requestBody)
+                .when()
+                .post("/api/goals")
+                .then()
+                .statusCode(HttpStatus.CREATED.value())
+                .extract()
+                .path("goalId");
+        String current = createGoalAndReturnId("Current Title", "Current Description", "Expired Category", "in-progress");
+
+        overdueGoalScanner.scan();
+
+        RestAssured.given()
+                .when()
+                .get("/api/goals/category/Expired Category")
+                .then()
+                .log().all()
+                .statusCode(HttpStatus.OK.value())
+                .body("find { it.goalId == '%s' }.status".formatted(expired), Matchers.equalTo("overdue"))
+                .body("find { it.goalId == '%s' }.status".formatted(current), Matchers.equalTo("in-progress"));
+    }
+
+    @Test
+    void searchGoalsTest() {
+        String inTitle = createGoalAndReturnId("Marathon training", "Build endurance slowly", "Search Category", "in-progress");
+        String inDescription = createGoalAndReturnId("Weekly runs", "Prepare for a marathon", "Search Category", "in-progress");
+        createGoalAndReturnId("Marathon elsewhere", "Not in this category", "Other Search Category", "in-progress");
+
+        String next = RestAssured.given()
+                .when()
+                .get("/api/goals/search?q=marathon&category=search category&limit=1")
+                .then()
+                .log().all()
+                .statusCode(HttpStatus.OK.value())
+                .body("goals.size()", Matchers.equalTo(1))
+                .body("goals[0].goalId", Matchers.equalTo(inTitle))
+                .body("next", Matchers.notNullValue())
+                .extract()
+                .path("next");
+
+        RestAssured.given()
+                .when()
+                .get("/api/goals/search?q=marathon&category=search category&limit=1&after=" + next)
+                .then()
+                .log().all()
+                .statusCode(HttpStatus.OK.value())
+                .body("goals.size()", Matchers.equalTo(1))
+                .body("goals[0].goalId", Matchers.equalTo(inDescription))
+                .body("next", Matchers.nullValue());
+    }
+
+    @Test
+    void getMyGoalsTest() {
+        String requestBody = """
+                {
+                   "title": "Owned Title",
+                   "description": "Owned Description",
+                   "targetDate": "%s",
+                   "status": "in-progress",
+                   "category": "Owned Category"
+                }
+                """.formatted(LocalDate.now().plusWeeks(1));
+        String owned = RestAssured.given()
+                .contentType(ContentType.JSON)
+                .header("X-User-Id", "student-1")
+                .body(requestBody)
+                .when()
+                .post("/api/goals")
+                .then()
+                .statusCode(HttpStatus.CREATED.value())
+                .body("ownerId", Matchers.equalTo("student-1"))
+                .extract()
+                .path("goalId");
+        createGoalAndReturnId("Unowned Title", "Unowned Description", "Owned Category", "in-progress");
+
+        RestAssured.given()
+                .header("X-User-Id", "student-1")
+                .when()
+                .get("/api/goals/mine?status=IN-PROGRESS")
+                .then()
+                .log().all()
+                .statusCode(HttpStatus.OK.value())
+                .body("size()", Matchers.equalTo(1))
+                .body("[0].goalId", Matchers.equalTo(owned));
+
+        RestAssured.given()
+                .when()
+                .get("/api/goals/mine")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    void getGoalReactiveTest() {
+        String id = createGoalAndReturnId("Reactive Title", "Reactive Description", "Reactive Category", "in-progress");
+
+        RestAssured.given()
+                .when()
+                .get("/api/goals/reactive/{id}", id)
+                .then()
+                .log().all()
+                .statusCode(HttpStatus.OK.value())
+                .body("title", Matchers.equalTo("Reactive Title"));
+
+        RestAssured.given()
+                .when()
+                .get("/api/goals/reactive/category/reactive category")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("goalId", Matchers.hasItem(id));
+
+        // wellness-resource-service is not running, so the circuit breaker fallback answers
+        RestAssured.given()
+                .when()
+                .get("/api/goals/reactive/{id}/suggested-resources", id)
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("size()", Matchers.equalTo(0));
+    }
+
+    @Test
+    void goalReminderFollowsGoalLifecycleTest() {
+        String id = createGoalAndReturnId("Reminder Title", "Reminder Description", "Reminder Category", "in-progress");
+
+        GoalReminder reminder = mongoTemplate.findById(id, GoalReminder.class);
+        assertNotNull(reminder);
+        assertEquals(LocalDate.now().plusWeeks(2), reminder.getTargetDate());
+        assertNull(reminder.getSentAt());
+
+        RestAssured.given()
+                .when()
+                .patch("/api/goals/{id}/complete", id)
+                .then()
+                .statusCode(HttpStatus.OK.value());
+
+        assertNull(mongoTemplate.findById(id, GoalReminder.class));
+    }
+
+    @Test
+    void goalCheckInsAreBucketedByMonthTest() {
+        String id = createGoalAndReturnId("Progress Title", "Progress Description", "Progress Category", "in-progress");
+        for (double value : new double[]{2, 3, 7}) {
+            RestAssured.given()
+                    .contentType(ContentType.JSON)
+                    .body("""
+                            { "value": %s, "note": "Ran %s km" }
+                            """.formatted(value, value))
+                    .when()
+                    .post("/api/goals/{id}/check-ins", id)
+                    .then()
+                    .statusCode(HttpStatus.CREATED.value());
+        }
+
+        String today = LocalDate.now().toString();
+        RestAssured.given()
+                .when()
+                .get("/api/goals/{id}/check-ins?from={from}&to={to}", id, today, today)
+                .then()
+                .log().all()
+                .statusCode(HttpStatus.OK.value())
+                .body("size()", Matchers.equalTo(3))
+                .body("[0].note", Matchers.equalTo("Ran 2.0 km"));
+
+        RestAssured.given()
+                .when()
+                .get("/api/goals/{id}/progress?from={from}&to={to}", id, today, today)
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("size()", Matchers.equalTo(1))
+                .body("[0].checkIns", Matchers.equalTo(3))
+                .body("[0].total", Matchers.equalTo(12.0f));
+
+        assertEquals(1, mongoTemplate.count(
+                Query.query(Criteria.where("goalId").is(id)), GoalCheckInBucket.class));
+    }
+
+    @Test
+    void exportGoalsAsCsvTest() {
+        String id = createGoalAndReturnId("Export, Title", "Export Description", "Export Category", "in-progress");
+
+        String csv = RestAssured.given()
+                .when()
+                .get("/api/goals/export?format=csv&category=export category&fields=goalId,title,status")
+                .then()
+                .log().headers()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(Matchers.startsWith("text/csv"))
+                .header("Content-Encoding", "gzip")
+                .extract()
+                .asString();
+
+        assertEquals(List.of("goalId,title,status", id + ",\"Export, Title\",in-progress"), csv.lines().toList());
+
+        RestAssured.given()
+                .when()
+                .get("/api/goals/export?format=xml")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    void createGoalsInBulkTest() {
+        String targetDate = LocalDate.now().plusWeeks(3).toString();
+        RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        [
+                          { "title": "Cohort One", "targetDate": "%s", "category": "Cohort Category" },
+                          { "description": "No title" },
+                          { "title": "Cohort Two", "targetDate": "%s", "category": "Cohort Category" }
+                        ]
+                        """.formatted(targetDate, targetDate))
+                .when()
+                .post("/api/goals/bulk")
+                .then()
+                .log().all()
+                .statusCode(HttpStatus.OK.value())
+                .body("size()", Matchers.equalTo(3))
+                .body("[0].goalId", Matchers.notNullValue())
+                .body("[1].error", Matchers.equalTo("title is required"))
+                .body("[2].goalId", Matchers.notNullValue());
+
+        RestAssured.given()
+                .when()
+                .get("/api/goals/category/Cohort Category")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("title", Matchers.containsInAnyOrder("Cohort One", "Cohort Two"))
+                .body("status", Matchers.everyItem(Matchers.equalTo("in-progress")));
+    }
+
+    @Test
+    void getGoalSummariesTest() {
+        String goalId = createGoalAndReturnId("Summary Title", "Summary Description", "Summary Category", "in-progress");
+
+        RestAssured.given()
+                .queryParam("view", "summary")
+                .when()
+                .get("/api/goals/category/Summary Category")
+                .then()
+                .log().all()
+                .statusCode(HttpStatus.OK.value())
+                .body("size()", Matchers.equalTo(1))
+                .body("[0].goalId", Matchers.equalTo(goalId))
+                .body("[0].title", Matchers.equalTo("Summary Title"))
+                .body("[0].status", Matchers.equalTo("in-progress"))
+                .body("[0].targetDate", Matchers.notNullValue())
+                .body("[0]", Matchers.not(Matchers.hasKey("description")))
+                .body("[0]", Matchers.not(Matchers.hasKey("ownerId")));
+
+        RestAssured.given()
+                .queryParam("view", "summary")
+                .queryParam("limit", 1)
+                .when()
+                .get("/api/goals/status/in-progress")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("size()", Matchers.equalTo(1))
+                .body("[0]", Matchers.not(Matchers.hasKey("description")));
+
+        RestAssured.given()
+                .queryParam("view", "compact")
+                .when()
+                .get("/api/goals")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    void supersededIndexesAreDroppedTest() {
+        IndexOperations goalIndexes = mongoTemplate.indexOps(GoalTracking.class);
+        goalIndexes.createIndex(new Index()
+                .on("category", Sort.Direction.ASC)
+                .named("category_ci")
+                .collation(MongoIndexConfig.CASE_INSENSITIVE));
+
+        mongoIndexConfig.createIndexes();
+
+        List<String> names = goalIndexes.getIndexInfo().stream().map(IndexInfo::getName).toList();
+        assertTrue(names.contains("category_id_ci"));
+        assertFalse(names.contains("category_ci"));
+    }
+
+    @Test
+    void getMyGoalsMatchesOwnerExactlyTest() {
+        String requestBody = """
+                {
+                   "title": "Case Owner Title",
+                   "description": "Case Owner Description",
+                   "targetDate": "%s",
+                   "status": "in-progress",
+                   "category": "Case Owner Category"
+                }
+                """.formatted(LocalDate.now().plusWeeks(1));
+        String lower = null;
+        for (String owner : List.of("case-owner", "Case-Owner")) {
+            String goalId = RestAssured.given()
+                    .contentType(ContentType.JSON)
+                    .header("X-User-Id", owner)
+                    .body(requestBody)
+                    .when()
+                    .post("/api/goals")
+                    .then()
+                    .statusCode(HttpStatus.CREATED.value())
+                    .extract()
+                    .path("goalId");
+            lower = lower == null ? goalId : lower;
+        }
+
+        // Subjects differing only by case are different owners; the status still matches ignoring case
+        RestAssured.given()
+                .header("X-User-Id", "case-owner")
+                .when()
+                .get("/api/goals/mine?status=In-Progress")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("size()", Matchers.equalTo(1))
+                .body("[0].goalId", Matchers.equalTo(lower));
+
+        RestAssured.given()
+                .header("X-User-Id", "case-owner")
+                .when()
+                .get("/api/goals/mine?status=in.progress")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("size()", Matchers.equalTo(0));
+
+        List<String> names = mongoTemplate.indexOps(GoalTracking.class).getIndexInfo().stream()
+                .map(IndexInfo::getName)
+                .toList();
+        assertTrue(names.contains("owner_status_target_date"));
+        assertFalse(names.contains("owner_status_target_date_ci"));
+    }
+
     private String createGoalAndReturnId(String title, String description, String category, String status) {
         String targetDate = LocalDate.now().plusWeeks(2).toString();
         String requestBody = """
@@ -1,24 +1,38 @@
 package ca.gbc.comp3095.goaltrackingservice;
 
+import ca.gbc.comp3095.goaltrackingservice.dto.GoalTrackingRequest;
 import ca.gbc.comp3095.goaltrackingservice.event.GoalCompletedEvent;
+import ca.gbc.comp3095.goaltrackingservice.model.GoalReminder;
 import ca.gbc.comp3095.goaltrackingservice.model.GoalTracking;
+import ca.gbc.comp3095.goaltrackingservice.model.SchedulerLease;
 import ca.gbc.comp3095.goaltrackingservice.repository.GoalTrackingRepository;
+import ca.gbc.comp3095.goaltrackingservice.repository.OutboxEventRepository;
+import ca.gbc.comp3095.goaltrackingservice.service.GoalReminderService;
 import ca.gbc.comp3095.goaltrackingservice.service.GoalTrackingService;
+import ca.gbc.comp3095.goaltrackingservice.service.OutboxRelay;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.testcontainers.containers.KafkaContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -45,12 +59,25 @@ class KafkaIntegrationTest {
     @Autowired
     private GoalTrackingRepository goalTrackingRepository;
 
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
     @Autowired
     private KafkaTemplate<String, Object> kafkaTemplate;
 
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private GoalReminderService goalReminderService;
+
     @BeforeEach
     void setUp() {
         goalTrackingRepository.deleteAll();
+        outboxEventRepository.deleteAll();
     }
 
     @Test
@@ -103,5 +130,121 @@ class KafkaIntegrationTest {
         // The event should have been published with the correct structure
         // This test verifies the integration between service and Kafka publisher
     }
-}
 
+    @Test
+    void testGoalCompletionIsRelayedThroughOutbox() {
+        GoalTracking goal = GoalTracking.builder()
+                .title("Outbox Goal")
+                .description("Meditate daily")
+                .category("mindfulness")
+                .status("in-progress")
+                .targetDate(LocalDate.now().plusMonths(1))
+                .build();
+
+        GoalTracking savedGoal = goalTrackingRepository.save(goal);
+        goalTrackingService.markGoalAsCompleted(savedGoal.getGoalId());
+
+        // The event is written with the status change and marked once Kafka acknowledges it
+        await().atMost(15, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(outboxEventRepository.findAll())
+                    .singleElement()
+                    .satisfies(outboxEvent -> {
+                        assertThat(outboxEvent.getGoalId()).isEqualTo(savedGoal.getGoalId());
+                        assertThat(outboxEvent.getPublishedAt()).isNotNull();
+                    });
+        });
+    }
+
+    @Test
+    void testRepeatedCompletionEmitsSingleEvent() {
+        GoalTracking goal = GoalTracking.builder()
+                .title("Repeated Goal")
+                .description("Sleep eight hours")
+                .category("sleep")
+                .status("in-progress")
+                .targetDate(LocalDate.now().plusMonths(1))
+                .build();
+
+        GoalTracking savedGoal = goalTrackingRepository.save(goal);
+        goalTrackingService.markGoalAsCompleted(savedGoal.getGoalId());
+        GoalTracking repeated = goalTrackingService.markGoalAsCompleted(savedGoal.getGoalId());
+
+        assertThat(repeated.getStatus()).isEqualTo("completed");
+        assertThat(outboxEventRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void testOutboxIsNotDrainedWhileAnotherInstanceHoldsTheLease() {
+        mongoTemplate.save(SchedulerLease.builder()
+                .id("outbox-relay")
+                .owner("another-instance")
+                .lockedUntil(Instant.now().plusSeconds(60))
+                .build());
+        try {
+            GoalTracking savedGoal = goalTrackingRepository.save(GoalTracking.builder()
+                    .title("Leased Goal")
+                    .category("mindfulness")
+                    .status("in-progress")
+                    .targetDate(LocalDate.now().plusMonths(1))
+                    .build());
+            goalTrackingService.markGoalAsCompleted(savedGoal.getGoalId());
+            outboxRelay.drain();
+
+            assertThat(outboxEventRepository.findAll())
+                    .singleElement()
+                    .satisfies(outboxEvent -> assertThat(outboxEvent.getPublishedAt()).isNull());
+        } finally {
+            mongoTemplate.remove(Query.query(Criteria.where("id").is("outbox-relay")), SchedulerLease.class);
+        }
+
+        // Once the lease is free this instance relays the event
+        await().atMost(15, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(outboxEventRepository.findAll())
+                        .singleElement()
+                        .satisfies(outboxEvent -> assertThat(outboxEvent.getPublishedAt()).isNotNull()));
+    }
+
+    @Test
+    void testDueReminderIsSentToKafka() {
+        // Shorten the lead so tomorrow's goal is reminded in two seconds
+        LocalDate targetDate = LocalDate.now().plusDays(1);
+        LocalTime timeOfDay = (LocalTime) ReflectionTestUtils.getField(goalReminderService, "timeOfDay");
+        Object lead = ReflectionTestUtils.getField(goalReminderService, "lead");
+        ReflectionTestUtils.setField(goalReminderService, "lead", Duration.between(Instant.now().plusSeconds(2),
+                targetDate.atTime(timeOfDay).atZone(ZoneId.systemDefault()).toInstant()));
+        try {
+            GoalTracking goal = goalTrackingService.createGoal(
+                    new GoalTrackingRequest("Reminder Goal", "Stretch daily", targetDate, "in-progress", "fitness"),
+                    "student-1");
+
+            // sentAt is only set once Kafka has acknowledged the reminder
+            await().atMost(15, TimeUnit.SECONDS).untilAsserted(() ->
+                    assertThat(mongoTemplate.findById(goal.getGoalId(), GoalReminder.class).getSentAt()).isNotNull());
+        } finally {
+            ReflectionTestUtils.setField(goalReminderService, "lead", lead);
+        }
+    }
+
+    @Test
+    void testExpiredClaimIsRetriedLongAfterTheReminderFellDue() {
+        // The startup load has already run, so this reminder is before the loaded window
+        goalReminderService.loadWindow();
+        mongoTemplate.save(GoalReminder.builder()
+                .goalId("reminder-expired-claim")
+                .ownerId("student-1")
+                .title("Abandoned Reminder Goal")
+                .targetDate(LocalDate.now())
+                .remindAt(Instant.now().minus(Duration.ofHours(2)))
+                .claimedAt(Instant.now().minus(Duration.ofHours(1)))
+                .claimId("crashed-instance")
+                .build());
+
+        goalReminderService.loadWindow();
+
+        await().atMost(15, TimeUnit.SECONDS).untilAsserted(() -> {
+            GoalReminder reminder = mongoTemplate.findById("reminder-expired-claim", GoalReminder.class);
+            assertThat(reminder.getSentAt()).isNotNull();
+            assertThat(reminder.getClaimId()).isNull();
+        });
+    }
+}
@@ -0,0 +1,166 @@
+package ca.gbc.comp3095.goaltrackingservice;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares the servlet and reactive suggested-resources endpoints of a running goal-tracking-service
+ * at a fixed number of concurrent connections, reporting throughput, latency and server thread usage.
+ * Not a test; run the main method against a deployed stack:
+ * <pre>
+ *   SuggestedResourcesLoadTest [baseUrl=http://localhost:8082] [connections=1000] [seconds=30] [goals=2000]
+ * </pre>
+ * One goal is created per distinct category. Keeping {@code goals} above
+ * {@code wellness.resource.cache.max-entries} means most requests miss the category cache and wait on
+ * wellness-resource-service, which is the case the reactive path is for. Thread counts are read from
+ * the service's actuator metrics while the load runs.
+ */
+public class SuggestedResourcesLoadTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final List<String> VARIANTS = List.of(
+            "/api/goals/%s/suggested-resources",
+            "/api/goals/reactive/%s/suggested-resources");
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8082";
+        int connections = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+        int goals = args.length > 3 ? Integer.parseInt(args[3]) : 2000;
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        List<String> goalIds = createGoals(client, baseUrl, goals);
+        System.out.printf("Created %d goals; %d connections for %ds per variant%n", goalIds.size(), connections, seconds);
+
+        for (String variant : VARIANTS) {
+            // Short warm-up so JIT and connection setup do not count against either variant
+            run(client, baseUrl, variant, goalIds, connections, Math.max(5, seconds / 5), false);
+            run(client, baseUrl, variant, goalIds, connections, seconds, true);
+        }
+    }
+
+    private static List<String> createGoals(HttpClient client, String baseUrl, int count) {
+        List<CompletableFuture<String>> created = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String body = """
+                    {"title": "Load goal %d", "description": "Load test", "targetDate": "%s",
+                     "status": "in-progress", "category": "load-%d"}
+                    """.formatted(i, LocalDate.now().plusMonths(1), i);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/goals"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            created.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .thenApply(response -> readTree(response.body()).path("goalId").asText()));
+            if (created.size() % 100 == 0) {
+                created.get(created.size() - 1).join();
+            }
+        }
+        return created.stream().map(CompletableFuture::join).toList();
+    }
+
+    private static void run(HttpClient client, String baseUrl, String variant, List<String> goalIds,
+                            int connections, int seconds, boolean report) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        LongAdder errors = new LongAdder();
+        AtomicInteger next = new AtomicInteger();
+        AtomicLong maxBusyThreads = new AtomicLong();
+        AtomicLong maxLiveThreads = new AtomicLong();
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            maxBusyThreads.accumulateAndGet(metric(client, baseUrl, "tomcat.threads.busy"), Math::max);
+            maxLiveThreads.accumulateAndGet(metric(client, baseUrl, "jvm.threads.live"), Math::max);
+        }, 0, 1, TimeUnit.SECONDS);
+
+        // Each connection issues its next request as soon as the previous one completes
+        List<CompletableFuture<Void>> loops = new ArrayList<>();
+        for (int i = 0; i < connections; i++) {
+            loops.add(loop(client, baseUrl, variant, goalIds, next, deadline, latencies, errors));
+        }
+        CompletableFuture.allOf(loops.toArray(CompletableFuture[]::new)).join();
+        sampler.shutdownNow();
+        sampler.awaitTermination(5, TimeUnit.SECONDS);
+
+        if (!report) {
+            return;
+        }
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        System.out.printf("%-45s %,9.0f req/s  p50 %6.1f ms  p99 %7.1f ms  errors %,d  tomcat busy max %d  jvm threads max %d%n",
+                variant.formatted("{id}"),
+                sorted.length / (double) seconds,
+                percentile(sorted, 0.50) / 1e6,
+                percentile(sorted, 0.99) / 1e6,
+                errors.sum(),
+                maxBusyThreads.get(),
+                maxLiveThreads.get());
+    }
+
+    private static CompletableFuture<Void> loop(HttpClient client, String baseUrl, String variant, List<String> goalIds,
+                                                AtomicInteger next, long deadline,
+                                                ConcurrentLinkedQueue<Long> latencies, LongAdder errors) {
+        if (System.nanoTime() >= deadline) {
+            return CompletableFuture.completedFuture(null);
+        }
+        String goalId = goalIds.get(Math.floorMod(next.getAndIncrement(), goalIds.size()));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + variant.formatted(goalId)))
+                .timeout(Duration.ofSeconds(30))
+                .build();
+        long start = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    if (error != null || response.statusCode() != 200) {
+                        errors.increment();
+                    } else {
+                        latencies.add(System.nanoTime() - start);
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> loop(client, baseUrl, variant, goalIds, next, deadline, latencies, errors));
+    }
+
+    private static long metric(HttpClient client, String baseUrl, String name) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/" + name)).build();
+            JsonNode measurements = readTree(client.send(request, HttpResponse.BodyHandlers.ofString()).body())
+                    .path("measurements");
+            return measurements.isEmpty() ? 0 : measurements.get(0).path("value").asLong();
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private static JsonNode readTree(String json) {
+        try {
+            return MAPPER.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalStateException("Unexpected response: " + json, e);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package ca.gbc.comp3095.goaltrackingservice.client;
+
+import ca.gbc.comp3095.goaltrackingservice.dto.WellnessResource;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryResourceCacheTest {
+
+    private static final Duration TTL = Duration.ofSeconds(60);
+    private static final Duration MAX_STALE = Duration.ofHours(1);
+    private static final List<WellnessResource> FITNESS = List.of(resource(1L, "fitness"));
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void entryIsFreshWithinTtl() {
+        CategoryResourceCache cache = cache(10);
+        cache.put("fitness", FITNESS);
+
+        advance(TTL);
+
+        assertThat(cache.getFresh("fitness")).contains(FITNESS);
+    }
+
+    @Test
+    void entryIsOnlyStaleAfterTtl() {
+        CategoryResourceCache cache = cache(10);
+        cache.put("fitness", FITNESS);
+
+        advance(TTL.plusSeconds(1));
+
+        assertThat(cache.getFresh("fitness")).isEmpty();
+        assertThat(cache.getStale("fitness")).contains(FITNESS);
+    }
+
+    @Test
+    void entryIsDroppedAfterMaxStale() {
+        CategoryResourceCache cache = cache(10);
+        cache.put("fitness", FITNESS);
+
+        advance(MAX_STALE.plusSeconds(1));
+
+        assertThat(cache.getStale("fitness")).isEmpty();
+        // Going back in time shows the entry was removed, not just hidden
+        now.set(0);
+        assertThat(cache.getFresh("fitness")).isEmpty();
+    }
+
+    @Test
+    void putRestartsTheTtl() {
+        CategoryResourceCache cache = cache(10);
+        cache.put("fitness", FITNESS);
+        advance(TTL.plusSeconds(1));
+
+        cache.put("fitness", FITNESS);
+
+        assertThat(cache.getFresh("fitness")).contains(FITNESS);
+    }
+
+    @Test
+    void categoriesAreMatchedIgnoringCase() {
+        CategoryResourceCache cache = cache(10);
+        cache.put("Fitness", FITNESS);
+
+        assertThat(cache.getFresh("FITNESS")).contains(FITNESS);
+    }
+
+    @Test
+    void onlyOneRefreshPerCategoryAtATime() {
+        CategoryResourceCache cache = cache(10);
+
+        assertThat(cache.startRefresh("fitness")).isTrue();
+        assertThat(cache.startRefresh("Fitness")).isFalse();
+        assertThat(cache.startRefresh("sleep")).isTrue();
+
+        cache.finishRefresh("fitness");
+
+        assertThat(cache.startRefresh("fitness")).isTrue();
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedAtMaxEntries() {
+        CategoryResourceCache cache = cache(2);
+        cache.put("fitness", FITNESS);
+        cache.put("sleep", List.of(resource(2L, "sleep")));
+        cache.getFresh("fitness");
+
+        cache.put("nutrition", List.of(resource(3L, "nutrition")));
+
+        assertThat(cache.getFresh("fitness")).isPresent();
+        assertThat(cache.getFresh("sleep")).isEmpty();
+        assertThat(cache.getFresh("nutrition")).isPresent();
+    }
+
+    @Test
+    void outageFallbackServesStaleEntriesUntilMaxStale() {
+        CategoryResourceCache cache = cache(10);
+        WellnessResourceClient client = new WellnessResourceClient(WebClient.builder(), cache);
+        CallNotPermittedException open = CallNotPermittedException.createCallNotPermittedException(
+                CircuitBreaker.ofDefaults("wellnessResourceService"));
+        cache.put("fitness", FITNESS);
+
+        advance(TTL.multipliedBy(2));
+        assertThat(client.getResourcesByCategoryFallback("fitness", open)).isEqualTo(FITNESS);
+
+        advance(MAX_STALE);
+        assertThat(client.getResourcesByCategoryFallback("fitness", open)).isEmpty();
+    }
+
+    private CategoryResourceCache cache(int maxEntries) {
+        return new CategoryResourceCache(TTL, MAX_STALE, maxEntries, now::get);
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    private static WellnessResource resource(Long id, String category) {
+        return new WellnessResource(id, "Resource " + id, "Description", category, "https://example.com/" + id);
+    }
+}
@@ -0,0 +1,61 @@
+package ca.gbc.comp3095.goaltrackingservice.controller;
+
+import ca.gbc.comp3095.goaltrackingservice.dto.GoalChange;
+import ca.gbc.comp3095.goaltrackingservice.model.GoalTracking;
+import ca.gbc.comp3095.goaltrackingservice.service.GoalChangeStreamService;
+import ca.gbc.comp3095.goaltrackingservice.service.GoalCheckInService;
+import ca.gbc.comp3095.goaltrackingservice.service.GoalExportService;
+import ca.gbc.comp3095.goaltrackingservice.service.GoalStatsService;
+import ca.gbc.comp3095.goaltrackingservice.service.GoalTrackingService;
+import ca.gbc.comp3095.goaltrackingservice.service.SuggestedResourceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GoalTrackingControllerTest {
+
+    private final GoalTrackingService service = mock(GoalTrackingService.class);
+    private final GoalChangeStreamService goalChangeStreamService = mock(GoalChangeStreamService.class);
+    private final GoalTrackingController controller = new GoalTrackingController(service,
+            mock(SuggestedResourceService.class), mock(GoalStatsService.class), goalChangeStreamService,
+            mock(GoalCheckInService.class), mock(GoalExportService.class));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(controller, "streamHeartbeatInterval", Duration.ofMillis(20));
+        ReflectionTestUtils.setField(controller, "streamMaxDuration", Duration.ofMillis(100));
+    }
+
+    @Test
+    void dumpOfAllGoalsIsCutAtMaxDuration() {
+        // Goals keep arriving faster than any per-item timeout, so only a whole-response deadline stops it
+        when(service.streamAllGoals()).thenReturn(Flux.interval(Duration.ofMillis(10))
+                .map(i -> GoalTracking.builder().goalId(String.valueOf(i)).build()));
+
+        assertThatThrownBy(() -> controller.streamAllGoals().blockLast(Duration.ofSeconds(5)))
+                .hasRootCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void liveStreamOutlastsMaxDuration() {
+        when(goalChangeStreamService.subscribe(null, null)).thenReturn(Flux.never());
+
+        List<ServerSentEvent<GoalChange>> events = controller.streamGoalChanges(null, null)
+                .take(Duration.ofMillis(400))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(events).isNotEmpty().allSatisfy(event -> assertThat(event.comment()).isEqualTo("heartbeat"));
+    }
+}
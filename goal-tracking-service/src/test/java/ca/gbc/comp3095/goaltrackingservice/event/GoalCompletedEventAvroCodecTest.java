@@ -0,0 +1,140 @@
+package ca.gbc.comp3095.goaltrackingservice.event;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GoalCompletedEventAvroCodecTest {
+
+    @TempDir
+    Path registryDirectory;
+
+    @Test
+    void encodedEventDecodesToTheSameEvent() {
+        GoalCompletedEventAvroCodec codec = new GoalCompletedEventAvroCodec(new FileSchemaRegistry(registryDirectory));
+        GoalCompletedEvent event = event();
+
+        GoalCompletedEvent decoded = codec.decode(codec.encode(event));
+
+        assertThat(decoded).isEqualTo(event);
+    }
+
+    @Test
+    void encodedEventIsFramedWithMagicByteAndSchemaId() {
+        FileSchemaRegistry registry = new FileSchemaRegistry(registryDirectory);
+        GoalCompletedEventAvroCodec codec = new GoalCompletedEventAvroCodec(registry);
+        int schemaId = registry.register(GoalCompletedEventAvroCodec.SUBJECT, schema(registry));
+
+        ByteBuffer message = ByteBuffer.wrap(codec.encode(event()));
+
+        assertThat(message.get()).isEqualTo(GoalCompletedEventAvroCodec.MAGIC_BYTE);
+        assertThat(message.getInt()).isEqualTo(schemaId);
+    }
+
+    @Test
+    void registeredSchemaIsReadableByAnotherRegistryOnTheSameDirectory() {
+        FileSchemaRegistry producerRegistry = new FileSchemaRegistry(registryDirectory);
+        GoalCompletedEventAvroCodec producer = new GoalCompletedEventAvroCodec(producerRegistry);
+        byte[] message = producer.encode(event());
+
+        GoalCompletedEventAvroCodec consumer = new GoalCompletedEventAvroCodec(new FileSchemaRegistry(registryDirectory));
+
+        assertThat(consumer.decode(message)).isEqualTo(event());
+    }
+
+    @Test
+    void decodesEventsWrittenWithACompatibleNewerSchema() throws IOException {
+        FileSchemaRegistry registry = new FileSchemaRegistry(registryDirectory);
+        GoalCompletedEventAvroCodec codec = new GoalCompletedEventAvroCodec(registry);
+        // A later producer adds an optional field; the codec's schema still resolves it
+        Schema newer = withOptionalField(schema(registry), "coachId");
+        int newerId = registry.register(GoalCompletedEventAvroCodec.SUBJECT, newer);
+
+        GenericRecord record = new GenericData.Record(newer);
+        record.put("goalId", "goal-1");
+        record.put("title", "Run 5K");
+        record.put("category", "fitness");
+        record.put("eventType", "GOAL_COMPLETED");
+        record.put("coachId", "coach-7");
+
+        GoalCompletedEvent decoded = codec.decode(frame(newerId, newer, record));
+
+        assertThat(decoded.getGoalId()).isEqualTo("goal-1");
+        assertThat(decoded.getCategory()).isEqualTo("fitness");
+        assertThat(decoded.getTargetDate()).isNull();
+    }
+
+    @Test
+    void incompatibleSchemaIsRejected() {
+        FileSchemaRegistry registry = new FileSchemaRegistry(registryDirectory);
+        new GoalCompletedEventAvroCodec(registry);
+        Schema incompatible = SchemaBuilder.record("GoalCompletedEvent").namespace("ca.gbc.comp3095.events")
+                .fields().requiredLong("goalId").endRecord();
+
+        assertThatThrownBy(() -> registry.register(GoalCompletedEventAvroCodec.SUBJECT, incompatible))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void serializerFallsBackToJsonForOtherEvents() {
+        GoalCompletedEventAvroCodec codec = new GoalCompletedEventAvroCodec(new FileSchemaRegistry(registryDirectory));
+        try (GoalCompletedEventAvroSerializer serializer = new GoalCompletedEventAvroSerializer(codec)) {
+            byte[] avro = serializer.serialize("goal-completed-events", event());
+            byte[] json = serializer.serialize("goal-reminder-events", Map.of("goalId", "goal-1"));
+
+            assertThat(avro[0]).isEqualTo(GoalCompletedEventAvroCodec.MAGIC_BYTE);
+            assertThat(new String(json, StandardCharsets.UTF_8)).isEqualTo("{\"goalId\":\"goal-1\"}");
+            assertThat(serializer.serialize("goal-completed-events", null)).isNull();
+        }
+    }
+
+    private static GoalCompletedEvent event() {
+        return GoalCompletedEvent.builder()
+                .goalId("goal-1")
+                .title("Run 5K")
+                .category("fitness")
+                .targetDate(LocalDate.of(2026, 5, 1))
+                .completedAt(LocalDateTime.of(2026, 4, 28, 18, 30, 15))
+                .eventType("GOAL_COMPLETED")
+                .build();
+    }
+
+    // The codec registers its bundled schema first, so it is always id 1 in a fresh directory
+    private static Schema schema(FileSchemaRegistry registry) {
+        return registry.getById(1);
+    }
+
+    private static Schema withOptionalField(Schema schema, String name) {
+        String json = schema.toString().replace("]}", ",{\"name\":\"" + name
+                + "\",\"type\":[\"null\",\"string\"],\"default\":null}]}");
+        return new Schema.Parser().parse(json);
+    }
+
+    private static byte[] frame(int schemaId, Schema schema, GenericRecord record) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(GoalCompletedEventAvroCodec.MAGIC_BYTE);
+        out.write(ByteBuffer.allocate(4).putInt(schemaId).array());
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+        new GenericDatumWriter<GenericRecord>(schema).write(record, encoder);
+        encoder.flush();
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,200 @@
+package ca.gbc.comp3095.goaltrackingservice.service;
+
+import ca.gbc.comp3095.goaltrackingservice.event.GoalCompletedEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventPublisherTest {
+
+    private static final String TOPIC = "goal-completed-events";
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // Held closed to keep the dispatcher stuck in its first send, so later events stay queued
+    private final CountDownLatch releaseSend = new CountDownLatch(1);
+    private final CountDownLatch sendStarted = new CountDownLatch(1);
+
+    private EventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), any())).thenAnswer(invocation -> {
+            sendStarted.countDown();
+            releaseSend.await(5, TimeUnit.SECONDS);
+            return CompletableFuture.completedFuture(sendResult(invocation.getArgument(2)));
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        releaseSend.countDown();
+        if (publisher != null) {
+            publisher.stop();
+        }
+    }
+
+    @Test
+    void publishedEventCompletesOnceKafkaAcknowledges() throws Exception {
+        publisher = start("block", 10, 10, 1000);
+        releaseSend.countDown();
+
+        SendResult<String, Object> result = publisher.publishGoalCompletedEvent(event("goal-1")).get(5, TimeUnit.SECONDS);
+
+        assertThat(result.getProducerRecord().key()).isEqualTo("goal-1");
+        assertThat(meterRegistry.get("goals.events.send.latency").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("goals.events.overflow").counter().count()).isZero();
+    }
+
+    @Test
+    void shedPolicyFailsImmediatelyWhenQueueIsFull() throws Exception {
+        publisher = start("shed", 1, 1, 1000);
+        fillQueue();
+
+        CompletableFuture<SendResult<String, Object>> rejected = publisher.publishGoalCompletedEvent(event("goal-3"));
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::get).hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(meterRegistry.get("goals.events.overflow").tag("policy", "shed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void blockPolicyWaitsForSpaceThenFails() throws Exception {
+        publisher = start("block", 1, 1, 200);
+        fillQueue();
+
+        long started = System.nanoTime();
+        CompletableFuture<SendResult<String, Object>> rejected = publisher.publishGoalCompletedEvent(event("goal-3"));
+        long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertThat(waitedMs).isGreaterThanOrEqualTo(200);
+        assertThatThrownBy(rejected::get).hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(meterRegistry.get("goals.events.overflow").tag("policy", "block").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void blockPolicySucceedsWhenSpaceFreesUpInTime() throws Exception {
+        publisher = start("block", 1, 1, 5000);
+        fillQueue();
+
+        CompletableFuture<Void> release = CompletableFuture.runAsync(() -> {
+            sleep(100);
+            releaseSend.countDown();
+        });
+        CompletableFuture<SendResult<String, Object>> queued = publisher.publishGoalCompletedEvent(event("goal-3"));
+        release.get(5, TimeUnit.SECONDS);
+
+        assertThat(queued.get(5, TimeUnit.SECONDS).getProducerRecord().key()).isEqualTo("goal-3");
+        assertThat(meterRegistry.get("goals.events.overflow").counter().count()).isZero();
+    }
+
+    @Test
+    void queuedEventsAreDrainedInOneBatch() throws Exception {
+        publisher = start("block", 10, 10, 1000);
+        CompletableFuture<SendResult<String, Object>> first = publisher.publishGoalCompletedEvent(event("goal-0"));
+        assertThat(sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<?>[] queued = new CompletableFuture<?>[3];
+        for (int i = 0; i < queued.length; i++) {
+            queued[i] = publisher.publishGoalCompletedEvent(event("goal-" + (i + 1)));
+        }
+        assertThat(meterRegistry.get("goals.events.queue.depth").gauge().value()).isEqualTo(3);
+
+        releaseSend.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        CompletableFuture.allOf(queued).get(5, TimeUnit.SECONDS);
+
+        DistributionSummary batches = meterRegistry.get("goals.events.batch.size").summary();
+        assertThat(batches.count()).isEqualTo(2);
+        assertThat(batches.max()).isEqualTo(3);
+    }
+
+    @Test
+    void failedSendFailsTheFutureAndCountsAnError() {
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        publisher = start("block", 10, 10, 1000);
+
+        CompletableFuture<SendResult<String, Object>> result = publisher.publishGoalCompletedEvent(event("goal-1"));
+
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get("goals.events.send.errors").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void unknownOverflowPolicyIsRejectedAtStartup() {
+        EventPublisher misconfigured = configure("drop", 10, 10, 1000);
+
+        assertThatThrownBy(misconfigured::start).isInstanceOf(IllegalStateException.class);
+    }
+
+    // Leaves the dispatcher stuck sending one event and the single queue slot taken by another
+    private void fillQueue() throws InterruptedException {
+        publisher.publishGoalCompletedEvent(event("goal-1"));
+        assertThat(sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(publisher.publishGoalCompletedEvent(event("goal-2"))).isNotCompleted();
+    }
+
+    private EventPublisher start(String overflowPolicy, int queueCapacity, int maxBatch, long blockTimeoutMs) {
+        EventPublisher started = configure(overflowPolicy, queueCapacity, maxBatch, blockTimeoutMs);
+        started.start();
+        return started;
+    }
+
+    private EventPublisher configure(String overflowPolicy, int queueCapacity, int maxBatch, long blockTimeoutMs) {
+        EventPublisher configured = new EventPublisher(kafkaTemplate, meterRegistry);
+        ReflectionTestUtils.setField(configured, "overflowPolicy", overflowPolicy);
+        ReflectionTestUtils.setField(configured, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(configured, "maxBatch", maxBatch);
+        ReflectionTestUtils.setField(configured, "blockTimeoutMs", blockTimeoutMs);
+        return configured;
+    }
+
+    private static GoalCompletedEvent event(String goalId) {
+        return GoalCompletedEvent.builder()
+                .goalId(goalId)
+                .title("Goal " + goalId)
+                .category("fitness")
+                .build();
+    }
+
+    private static SendResult<String, Object> sendResult(GoalCompletedEvent event) {
+        return new SendResult<>(
+                new ProducerRecord<>(TOPIC, event.getGoalId(), event),
+                new RecordMetadata(new TopicPartition(TOPIC, 0), 0, 0, 0, 0, 0));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package ca.gbc.comp3095.goaltrackingservice.service;
+
+import ca.gbc.comp3095.goaltrackingservice.model.GoalTracking;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GoalExportServiceTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final GoalExportService service = new GoalExportService(mongoTemplate, new ObjectMapper());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "defaultBatchSize", 1000);
+        ReflectionTestUtils.setField(service, "maxBatchSize", 10000);
+        when(mongoTemplate.getCollectionName(GoalTracking.class)).thenReturn("goal_tracking");
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("goal_tracking"))).thenAnswer(invocation ->
+                Stream.of(new Document("title", "Run").append("status", "active"),
+                        new Document("title", "Read").append("status", "completed")));
+    }
+
+    @Test
+    void ndjsonIsWrittenWithoutFlushingEachGoal() throws IOException {
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("goal_tracking"))).thenAnswer(invocation ->
+                IntStream.range(0, 50).mapToObj(i -> new Document("title", "Goal " + i).append("status", "active")));
+        CountingOutputStream out = new CountingOutputStream();
+
+        service.export(service.prepare("ndjson", null, null, List.of("title", "status"), null), out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(50);
+        assertThat(lines.getFirst()).isEqualTo("{\"title\":\"Goal 0\",\"status\":\"active\"}");
+        // Flushed when the export finishes, not once per goal
+        assertThat(out.flushes).isLessThan(5);
+    }
+
+    @Test
+    void unfilteredExportSkipsTheCollation() throws IOException {
+        service.export(service.prepare("csv", null, null, null, null), new ByteArrayOutputStream());
+        service.export(service.prepare("csv", "fitness", null, null, null), new ByteArrayOutputStream());
+
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).stream(queries.capture(), eq(Document.class), eq("goal_tracking"));
+        assertThat(queries.getAllValues().get(0).getCollation()).isEmpty();
+        assertThat(queries.getAllValues().get(1).getCollation()).isPresent();
+    }
+
+    private static class CountingOutputStream extends ByteArrayOutputStream {
+        private int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
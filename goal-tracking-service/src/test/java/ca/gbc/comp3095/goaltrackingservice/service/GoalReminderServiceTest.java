@@ -0,0 +1,100 @@
+package ca.gbc.comp3095.goaltrackingservice.service;
+
+import ca.gbc.comp3095.goaltrackingservice.model.GoalReminder;
+import ca.gbc.comp3095.goaltrackingservice.model.GoalTracking;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GoalReminderServiceTest {
+
+    private static final LocalTime TIME_OF_DAY = LocalTime.of(9, 0);
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final GoalReminderService service = new GoalReminderService(mongoTemplate, mock(KafkaTemplate.class),
+            new SimpleMeterRegistry());
+
+    private final Instant now = Instant.now();
+    private final LocalDate targetDate = LocalDate.now().plusDays(2);
+    private HashedTimingWheel<String> wheel;
+
+    @BeforeEach
+    void setUp() {
+        // The ticker thread is not started; tests advance the wheel themselves
+        wheel = new HashedTimingWheel<>(Duration.ofSeconds(1), 4096, now.toEpochMilli());
+        ReflectionTestUtils.setField(service, "wheel", wheel);
+        ReflectionTestUtils.setField(service, "timeOfDay", TIME_OF_DAY);
+        ReflectionTestUtils.setField(service, "horizon", Duration.ofHours(1));
+        ReflectionTestUtils.setField(service, "claimTimeout", Duration.ofMinutes(5));
+        // The previous load covered the next five minutes
+        ReflectionTestUtils.setField(service, "loadedUntil", now.plus(Duration.ofMinutes(5)));
+    }
+
+    @Test
+    void expiredClaimsAreLoadedWhenTheyFellDueBeforeTheWindow() {
+        when(mongoTemplate.find(any(Query.class), eq(GoalReminder.class))).thenReturn(List.of());
+
+        service.loadWindow();
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(GoalReminder.class));
+        List<Document> branches = query.getValue().getQueryObject().getList("$or", Document.class);
+        assertThat(branches).hasSize(2);
+        assertThat(branches.get(0)).containsKeys("remindAt", "claimedAt");
+        assertThat(branches.get(1)).containsOnlyKeys("claimedAt");
+    }
+
+    @Test
+    void reminderScheduledDuringALoadIsKeptOverTheStaleRead() {
+        remindIn(Duration.ofMinutes(20));
+        GoalTracking goal = GoalTracking.builder().goalId("goal-1").status("in-progress").targetDate(targetDate).build();
+        // The load reads the reminder at 10 minutes, then the goal is moved to 20 minutes before the load applies it
+        when(mongoTemplate.find(any(Query.class), eq(GoalReminder.class))).thenAnswer(invocation -> {
+            service.schedule(goal);
+            return List.of(GoalReminder.builder().goalId("goal-1").remindAt(now.plus(Duration.ofMinutes(10))).build());
+        });
+
+        service.loadWindow();
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(now.plus(Duration.ofMinutes(11)).toEpochMilli())).isEmpty();
+        assertThat(wheel.advance(now.plus(Duration.ofMinutes(21)).toEpochMilli())).containsExactly("goal-1");
+    }
+
+    @Test
+    void readRemindersAreLoadedIntoTheWheel() {
+        when(mongoTemplate.find(any(Query.class), eq(GoalReminder.class))).thenReturn(List.of(
+                GoalReminder.builder().goalId("goal-1").remindAt(now.plus(Duration.ofMinutes(10))).build()));
+
+        service.loadWindow();
+
+        assertThat(wheel.advance(now.plus(Duration.ofMinutes(11)).toEpochMilli())).containsExactly("goal-1");
+    }
+
+    // Sets the lead so a goal due on targetDate is reminded this far from now
+    private void remindIn(Duration delay) {
+        Instant due = targetDate.atTime(TIME_OF_DAY).atZone(ZoneId.systemDefault()).toInstant();
+        ReflectionTestUtils.setField(service, "lead", Duration.between(now.plus(delay), due));
+    }
+}
@@ -0,0 +1,123 @@
+package ca.gbc.comp3095.goaltrackingservice.service;
+
+import ca.gbc.comp3095.goaltrackingservice.model.GoalCounter;
+import ca.gbc.comp3095.goaltrackingservice.model.GoalTracking;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GoalStatsServiceTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final LeaseService leaseService = mock(LeaseService.class);
+    private final BulkOperations bulk = mock(BulkOperations.class);
+    private final GoalStatsService service = new GoalStatsService(mongoTemplate, leaseService);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "lease", Duration.ofMinutes(10));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, GoalCounter.class)).thenReturn(bulk);
+        when(bulk.upsert(any(Query.class), any(Update.class))).thenReturn(bulk);
+        when(bulk.updateOne(any(Query.class), any(Update.class))).thenReturn(bulk);
+        when(bulk.execute()).thenReturn(BulkWriteResult.acknowledged(0, 1, 0, 1, List.of(), List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void countersAreUpdatedAtOnceOutsideATransaction() {
+        service.recordChange(null, goal("open"));
+
+        verify(bulk).execute();
+    }
+
+    @Test
+    void countersAreOnlyUpdatedOnceTheTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.recordChange(goal("open"), goal("completed"));
+
+        verify(bulk, never()).execute();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(synchronizations).hasSize(1);
+
+        synchronizations.get(0).afterCommit();
+
+        verify(bulk).execute();
+    }
+
+    @Test
+    void failedCounterUpdateDoesNotFailTheCommittedWrite() {
+        when(bulk.execute()).thenThrow(new IllegalStateException("write conflict"));
+
+        service.recordChange(null, goal("open"));
+
+        verify(bulk).execute();
+    }
+
+    @Test
+    void reconcileIsSkippedWithoutTheLease() {
+        when(leaseService.tryAcquire(anyString(), any(Duration.class))).thenReturn(false);
+
+        service.reconcile();
+
+        verify(mongoTemplate, never()).findAll(GoalCounter.class);
+        verify(leaseService, never()).release(anyString());
+    }
+
+    @Test
+    void reconcileOnlyCorrectsCountersThatHaveNotMovedSinceTheyWereRead() {
+        when(leaseService.tryAcquire(anyString(), any(Duration.class))).thenReturn(true);
+        when(mongoTemplate.findAll(GoalCounter.class)).thenReturn(List.of(
+                new GoalCounter("status:open", "status", "open", 5)));
+        Document counts = new Document("category", List.of())
+                .append("status", List.of(new Document("_id", "open").append("count", 3)))
+                .append("due", List.of());
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(GoalTracking.class), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(counts), new Document()));
+
+        service.reconcile();
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(bulk).updateOne(query.capture(), update.capture());
+        assertThat(query.getValue().getQueryObject())
+                .containsEntry("id", "status:open")
+                .containsEntry("count", 5L);
+        assertThat(update.getValue().getUpdateObject().get("$set", Document.class)).containsEntry("count", 3L);
+        verify(leaseService).release(anyString());
+    }
+
+    private static GoalTracking goal(String status) {
+        return GoalTracking.builder().category("fitness").status(status).build();
+    }
+}
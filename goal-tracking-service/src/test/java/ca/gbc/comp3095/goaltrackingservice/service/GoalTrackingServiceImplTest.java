@@ -0,0 +1,131 @@
+package ca.gbc.comp3095.goaltrackingservice.service;
+
+import ca.gbc.comp3095.goaltrackingservice.dto.BulkCompletionRequest;
+import ca.gbc.comp3095.goaltrackingservice.dto.GoalCompletionResult;
+import ca.gbc.comp3095.goaltrackingservice.model.GoalTracking;
+import ca.gbc.comp3095.goaltrackingservice.model.OutboxEvent;
+import ca.gbc.comp3095.goaltrackingservice.repository.GoalTrackingRepository;
+import ca.gbc.comp3095.goaltrackingservice.repository.OutboxEventRepository;
+import ca.gbc.comp3095.goaltrackingservice.repository.ReactiveGoalTrackingRepository;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GoalTrackingServiceImplTest {
+
+    private final GoalTrackingRepository repository = mock(GoalTrackingRepository.class);
+    private final OutboxEventRepository outboxRepository = mock(OutboxEventRepository.class);
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final GoalStatsService goalStatsService = mock(GoalStatsService.class);
+    private final GoalReminderService goalReminderService = mock(GoalReminderService.class);
+    private final BulkOperations bulk = mock(BulkOperations.class);
+    private final BulkWriteResult bulkResult = mock(BulkWriteResult.class);
+
+    private GoalTrackingServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new GoalTrackingServiceImpl(repository, mock(ReactiveGoalTrackingRepository.class), outboxRepository,
+                mongoTemplate, goalStatsService, goalReminderService, mock(GoalCheckInService.class));
+        ReflectionTestUtils.setField(service, "maxBulkGoals", 1000);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, GoalTracking.class)).thenReturn(bulk);
+        when(bulk.updateOne(any(Query.class), any(Update.class))).thenReturn(bulk);
+        when(bulk.execute()).thenReturn(bulkResult);
+    }
+
+    @Test
+    void bulkCompletionEmitsEventsForEveryGoalItChanged() {
+        when(repository.findAllById(List.of("a", "b"))).thenReturn(List.of(goal("a"), goal("b")));
+        when(bulkResult.getModifiedCount()).thenReturn(2);
+
+        List<GoalCompletionResult> results = service.markGoalsAsCompleted(new BulkCompletionRequest(List.of("a", "b"), null, null));
+
+        assertThat(results).extracting(GoalCompletionResult::outcome)
+                .containsExactly(GoalCompletionResult.Outcome.COMPLETED, GoalCompletionResult.Outcome.COMPLETED);
+        assertThat(insertedOutboxGoalIds()).containsExactlyInAnyOrder("a", "b");
+        // Every update matched, so there is nothing to re-read
+        verify(mongoTemplate, never()).find(any(Query.class), eq(GoalTracking.class));
+    }
+
+    @Test
+    void bulkCompletionSkipsGoalsCompletedConcurrently() {
+        when(repository.findAllById(List.of("a", "b"))).thenReturn(List.of(goal("a"), goal("b")));
+        // "b" was completed by another request between the read and the bulk write
+        when(bulkResult.getModifiedCount()).thenReturn(1);
+        when(mongoTemplate.find(any(Query.class), eq(GoalTracking.class))).thenReturn(List.of(goal("a")));
+
+        List<GoalCompletionResult> results = service.markGoalsAsCompleted(new BulkCompletionRequest(List.of("a", "b"), null, null));
+
+        assertThat(results).containsExactly(
+                new GoalCompletionResult("a", GoalCompletionResult.Outcome.COMPLETED),
+                new GoalCompletionResult("b", GoalCompletionResult.Outcome.ALREADY_COMPLETED));
+        assertThat(insertedOutboxGoalIds()).containsExactly("a");
+        verify(goalReminderService).cancel(List.of("a"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GoalTracking>> before = ArgumentCaptor.forClass(List.class);
+        verify(goalStatsService).recordChanges(before.capture(), anyList());
+        assertThat(before.getValue()).extracting(GoalTracking::getGoalId).containsExactly("a");
+    }
+
+    @Test
+    void bulkCompletionRemovesItsCompletionTag() {
+        when(repository.findAllById(List.of("a", "b"))).thenReturn(List.of(goal("a"), goal("b")));
+        when(bulkResult.getModifiedCount()).thenReturn(2);
+
+        service.markGoalsAsCompleted(new BulkCompletionRequest(List.of("a", "b"), null, null));
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateMulti(any(Query.class), update.capture(), eq(GoalTracking.class));
+        assertThat(update.getValue().getUpdateObject().get("$unset", Document.class)).containsKey("completionId");
+    }
+
+    @Test
+    void completionIsRoutedByTheGoalsOwner() {
+        GoalTracking goal = goal("a").toBuilder().ownerId("owner-1").build();
+        when(mongoTemplate.findOne(any(Query.class), eq(GoalTracking.class))).thenReturn(goal);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), eq(GoalTracking.class))).thenReturn(goal);
+
+        service.markGoalAsCompleted("a");
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findAndModify(query.capture(), any(Update.class), eq(GoalTracking.class));
+        assertThat(query.getValue().getQueryObject()).containsEntry("goalId", "a").containsEntry("ownerId", "owner-1");
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> insertedOutboxGoalIds() {
+        ArgumentCaptor<List<OutboxEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).insert(events.capture());
+        return events.getValue().stream().map(OutboxEvent::getGoalId).toList();
+    }
+
+    private static GoalTracking goal(String id) {
+        return GoalTracking.builder()
+                .goalId(id)
+                .title("Goal " + id)
+                .status("in-progress")
+                .category("fitness")
+                .targetDate(LocalDate.now().plusWeeks(1))
+                .build();
+    }
+}
@@ -0,0 +1,102 @@
+package ca.gbc.comp3095.goaltrackingservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HashedTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    // 8 buckets of 100ms, so one turn of the wheel is 800ms
+    private final HashedTimingWheel<String> wheel = new HashedTimingWheel<>(Duration.ofMillis(100), 8, START);
+
+    @Test
+    void timeoutFiresInTheTickContainingItsDeadline() {
+        wheel.schedule("a", START + 250);
+
+        assertThat(wheel.advance(START + 199)).isEmpty();
+        assertThat(wheel.advance(START + 200)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void timeoutSharingABucketWaitsForItsRound() {
+        wheel.schedule("first-turn", START + 300);
+        wheel.schedule("third-turn", START + 300 + 2 * 800);
+
+        assertThat(wheel.advance(START + 300)).containsExactly("first-turn");
+        assertThat(wheel.advance(START + 300 + 800)).isEmpty();
+        assertThat(wheel.advance(START + 300 + 2 * 800 - 1)).isEmpty();
+        assertThat(wheel.advance(START + 300 + 2 * 800)).containsExactly("third-turn");
+    }
+
+    @Test
+    void roundsAreCountedFromTheCurrentTick() {
+        wheel.advance(START + 500);
+
+        // Tick 13 lands in bucket 5, which was just passed, so it is due on the next turn
+        wheel.schedule("a", START + 1300);
+
+        assertThat(wheel.advance(START + 1299)).isEmpty();
+        assertThat(wheel.advance(START + 1300)).containsExactly("a");
+    }
+
+    @Test
+    void pastDeadlineFiresOnTheNextAdvance() {
+        wheel.advance(START + 1000);
+
+        wheel.schedule("late", START);
+
+        assertThat(wheel.advance(START + 1000)).isEmpty();
+        assertThat(wheel.advance(START + 1100)).containsExactly("late");
+    }
+
+    @Test
+    void cancelledTimeoutNeverFires() {
+        HashedTimingWheel<String>.Timeout first = wheel.schedule("first", START + 100);
+        HashedTimingWheel<String>.Timeout middle = wheel.schedule("middle", START + 100);
+        wheel.schedule("last", START + 100);
+
+        assertThat(wheel.cancel(middle)).isTrue();
+        assertThat(wheel.cancel(middle)).isFalse();
+        assertThat(wheel.cancel(first)).isTrue();
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(START + 100)).containsExactly("last");
+    }
+
+    @Test
+    void firedTimeoutCannotBeCancelled() {
+        HashedTimingWheel<String>.Timeout timeout = wheel.schedule("a", START);
+
+        wheel.advance(START);
+
+        assertThat(wheel.cancel(timeout)).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void catchUpOverManyTurnsFiresEverythingInTickOrder() {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            wheel.schedule("t" + i, START + i * 130L);
+            expected.add("t" + i);
+        }
+
+        // One advance covering more than eight turns of the wheel
+        assertThat(wheel.advance(START + 50 * 130L)).containsExactlyElementsOf(expected);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void wheelSizeMustBeAPowerOfTwo() {
+        assertThatThrownBy(() -> new HashedTimingWheel<String>(Duration.ofMillis(100), 12, START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,76 @@
+package ca.gbc.comp3095.goaltrackingservice.service;
+
+import ca.gbc.comp3095.goaltrackingservice.model.OutboxEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final EventPublisher eventPublisher = mock(EventPublisher.class);
+    private final LeaseService leaseService = mock(LeaseService.class);
+    private final OutboxRelay relay = new OutboxRelay(mongoTemplate, mock(ReactiveMongoTemplate.class),
+            eventPublisher, leaseService);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(relay, "batchSize", 3);
+        ReflectionTestUtils.setField(relay, "sendTimeoutMs", 1000L);
+        when(mongoTemplate.find(any(Query.class), eq(OutboxEvent.class)))
+                .thenReturn(List.of(event("1"), event("2"), event("3")));
+    }
+
+    @Test
+    void batchStopsPublishingWhenTheLeaseIsLost() {
+        // Each event blocks for longer than half the lease, so the lease is due before every later one
+        ReflectionTestUtils.setField(relay, "lease", Duration.ofMillis(200));
+        when(leaseService.tryAcquire(anyString(), any(Duration.class))).thenReturn(true, true, false);
+        when(eventPublisher.publishGoalCompletedEvent(any())).thenAnswer(invocation -> {
+            // The publisher blocking on a full queue
+            Thread.sleep(150);
+            return CompletableFuture.completedFuture(null);
+        });
+
+        relay.drain();
+
+        // Acquired, renewed before the second event, lost before the third
+        verify(eventPublisher, times(2)).publishGoalCompletedEvent(any());
+        ArgumentCaptor<Query> published = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).updateMulti(published.capture(), any(Update.class), eq(OutboxEvent.class));
+        assertThat(published.getValue().getQueryObject().get("id").toString()).contains("1", "2").doesNotContain("3");
+        // The full-looking batch does not start another round once the lease is gone
+        verify(mongoTemplate, times(1)).find(any(Query.class), eq(OutboxEvent.class));
+    }
+
+    @Test
+    void leaseShorterThanTwoSendTimeoutsIsRejected() {
+        ReflectionTestUtils.setField(relay, "lease", Duration.ofMillis(1500));
+
+        assertThatThrownBy(relay::validateLease).isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("goals.outbox.lease");
+    }
+
+    private static OutboxEvent event(String id) {
+        return OutboxEvent.builder().id(id).goalId("goal-" + id).build();
+    }
+}
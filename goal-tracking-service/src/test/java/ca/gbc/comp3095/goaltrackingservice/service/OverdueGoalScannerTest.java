@@ -0,0 +1,83 @@
+package ca.gbc.comp3095.goaltrackingservice.service;
+
+import ca.gbc.comp3095.goaltrackingservice.model.GoalTracking;
+import com.mongodb.client.result.UpdateResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OverdueGoalScannerTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final LeaseService leaseService = mock(LeaseService.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OverdueGoalScanner scanner = new OverdueGoalScanner(mongoTemplate,
+            mock(MongoTransactionManager.class), mock(GoalStatsService.class), leaseService, meterRegistry);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        scanner.init();
+        ReflectionTestUtils.setField(scanner, "transactionTemplate", transactionTemplate);
+        ReflectionTestUtils.setField(scanner, "batchSize", 2);
+        ReflectionTestUtils.setField(scanner, "maxBatches", 10);
+        ReflectionTestUtils.setField(scanner, "lease", Duration.ofMinutes(5));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+        // Every page is full, so the scan only stops on the batch limit or the lease
+        when(mongoTemplate.find(any(Query.class), eq(GoalTracking.class))).thenReturn(List.of(expired("a"), expired("b")));
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(GoalTracking.class)))
+                .thenReturn(UpdateResult.acknowledged(2, 2L, null));
+    }
+
+    @Test
+    void scanStopsWhenTheLeaseCannotBeRenewed() {
+        when(leaseService.tryAcquire(anyString(), any(Duration.class))).thenReturn(true, true, false);
+
+        scanner.scan();
+
+        verify(mongoTemplate, times(2)).find(any(Query.class), eq(GoalTracking.class));
+        assertThat(meterRegistry.counter("goals.overdue.scans", "result", "lease-lost").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("goals.overdue.transitioned").count()).isEqualTo(4);
+    }
+
+    @Test
+    void scanRunsUpToMaxBatchesWhileTheLeaseIsHeld() {
+        when(leaseService.tryAcquire(anyString(), any(Duration.class))).thenReturn(true);
+
+        scanner.scan();
+
+        verify(mongoTemplate, times(10)).find(any(Query.class), eq(GoalTracking.class));
+        assertThat(meterRegistry.counter("goals.overdue.scans", "result", "completed").count()).isEqualTo(1);
+    }
+
+    private static GoalTracking expired(String id) {
+        return GoalTracking.builder()
+                .goalId(id)
+                .category("fitness")
+                .status("in-progress")
+                .targetDate(LocalDate.now().minusDays(1))
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package ca.gbc.comp3095.goaltrackingservice.service;
+
+import ca.gbc.comp3095.goaltrackingservice.client.CategoryResourceCache;
+import ca.gbc.comp3095.goaltrackingservice.client.WellnessResourceClient;
+import ca.gbc.comp3095.goaltrackingservice.dto.WellnessResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SuggestedResourceServiceTest {
+
+    private static final List<WellnessResource> CACHED = List.of(
+            new WellnessResource(1L, "Cached", "Description", "fitness", "https://example.com/1"));
+    private static final List<WellnessResource> REMOTE = List.of(
+            new WellnessResource(2L, "Remote", "Description", "fitness", "https://example.com/2"));
+
+    private final WellnessResourceClient client = mock(WellnessResourceClient.class);
+    private final CategoryResourceCache cache = mock(CategoryResourceCache.class);
+    private final SuggestedResourceService service = new SuggestedResourceService(client, cache);
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void freshEntryIsServedWithoutCallingTheService() {
+        when(cache.getFresh("fitness")).thenReturn(Optional.of(CACHED));
+
+        assertThat(service.getResourcesByCategory("fitness")).isEqualTo(CACHED);
+        verify(client, never()).getResourcesByCategory("fitness");
+    }
+
+    @Test
+    void staleEntryIsServedWhileOneBackgroundRefreshRuns() throws InterruptedException {
+        CountDownLatch refreshRunning = new CountDownLatch(1);
+        CountDownLatch releaseRefresh = new CountDownLatch(1);
+        when(cache.getFresh("fitness")).thenReturn(Optional.empty());
+        when(cache.getStale("fitness")).thenReturn(Optional.of(CACHED));
+        when(cache.startRefresh("fitness")).thenReturn(true, false);
+        when(client.getResourcesByCategory("fitness")).thenAnswer(invocation -> {
+            refreshRunning.countDown();
+            releaseRefresh.await(5, TimeUnit.SECONDS);
+            return REMOTE;
+        });
+
+        assertThat(service.getResourcesByCategory("fitness")).isEqualTo(CACHED);
+        assertThat(refreshRunning.await(5, TimeUnit.SECONDS)).isTrue();
+        // A second caller during the refresh gets the stale entry and starts nothing
+        assertThat(service.getResourcesByCategory("fitness")).isEqualTo(CACHED);
+        releaseRefresh.countDown();
+
+        verify(cache, timeout(5000)).finishRefresh("fitness");
+        verify(client, times(1)).getResourcesByCategory("fitness");
+    }
+
+    @Test
+    void failedRefreshStillReleasesTheCategory() {
+        when(cache.getFresh("fitness")).thenReturn(Optional.empty());
+        when(cache.getStale("fitness")).thenReturn(Optional.of(CACHED));
+        when(cache.startRefresh("fitness")).thenReturn(true);
+        when(client.getResourcesByCategory("fitness")).thenThrow(new IllegalStateException("down"));
+
+        assertThat(service.getResourcesByCategory("fitness")).isEqualTo(CACHED);
+
+        verify(cache, timeout(5000)).finishRefresh("fitness");
+    }
+
+    @Test
+    void missWaitsForTheService() {
+        when(cache.getFresh("fitness")).thenReturn(Optional.empty());
+        when(cache.getStale("fitness")).thenReturn(Optional.empty());
+        when(client.getResourcesByCategory("fitness")).thenReturn(REMOTE);
+
+        assertThat(service.getResourcesByCategory("fitness")).isEqualTo(REMOTE);
+        verify(cache, never()).startRefresh("fitness");
+    }
+}
@@ -3,9 +3,11 @@ package ca.gbc.comp3095.wellnessresourceservice;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableCaching
+@EnableScheduling
 public class WellnessResourceServiceApplication {
 
     public static void main(String[] args) {
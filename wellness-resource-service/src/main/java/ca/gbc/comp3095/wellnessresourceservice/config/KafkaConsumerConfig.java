@@ -1,6 +1,9 @@
 package ca.gbc.comp3095.wellnessresourceservice.config;
 
+import ca.gbc.comp3095.wellnessresourceservice.event.FileSchemaRegistry;
 import ca.gbc.comp3095.wellnessresourceservice.event.GoalCompletedEvent;
+import ca.gbc.comp3095.wellnessresourceservice.event.GoalCompletedEventAvroCodec;
+import ca.gbc.comp3095.wellnessresourceservice.event.GoalCompletedEventDeserializer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,6 +15,7 @@ import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -22,21 +26,34 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
     private String bootstrapServers;
 
+    // Avro events are always decoded; JSON is accepted until every producer has switched over
+    @Value("${resources.goal-events.accept-json:true}")
+    private boolean acceptJson;
+
+    @Value("${resources.goal-events.schema-registry-dir}")
+    private Path schemaRegistryDir;
+
+    @Value("${spring.kafka.consumer.max-poll-records:500}")
+    private int maxPollRecords;
+
     @Bean
     public ConsumerFactory<String, GoalCompletedEvent> consumerFactory() {
         Map<String, Object> config = new HashMap<>();
         config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         config.put(ConsumerConfig.GROUP_ID_CONFIG, "wellness-resource-service-group");
         config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
         config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
         config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, GoalCompletedEvent.class);
         config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
         
         return new DefaultKafkaConsumerFactory<>(
                 config,
                 new StringDeserializer(),
-                new JsonDeserializer<>(GoalCompletedEvent.class, false)
+                new GoalCompletedEventDeserializer(
+                        new GoalCompletedEventAvroCodec(new FileSchemaRegistry(schemaRegistryDir)),
+                        new JsonDeserializer<>(GoalCompletedEvent.class, false),
+                        acceptJson)
         );
     }
 
@@ -45,6 +62,7 @@ public class KafkaConsumerConfig {
         ConcurrentKafkaListenerContainerFactory<String, GoalCompletedEvent> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
         return factory;
     }
 }
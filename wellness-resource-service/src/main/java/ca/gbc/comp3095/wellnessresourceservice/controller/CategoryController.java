@@ -0,0 +1,78 @@
+package ca.gbc.comp3095.wellnessresourceservice.controller;
+
+import ca.gbc.comp3095.wellnessresourceservice.dto.CategoryNode;
+import ca.gbc.comp3095.wellnessresourceservice.service.CategoryTaxonomyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/resources/categories")
+@RequiredArgsConstructor
+@Tag(name = "Resource Categories", description = "APIs for managing the resource category taxonomy")
+public class CategoryController {
+
+    private final CategoryTaxonomyService taxonomyService;
+
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Get all categories",
+            description = "Retrieves every category in the taxonomy together with its parent."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved categories",
+                    content = @Content(schema = @Schema(implementation = CategoryNode.class)))
+    })
+    public List<CategoryNode> getCategories() {
+        return taxonomyService.getCategories();
+    }
+
+    @GetMapping("/{category}/descendants")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Get category subtree",
+            description = "Retrieves the category and all of its descendants."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved category subtree")
+    })
+    public Set<String> getDescendants(
+            @Parameter(description = "Category name", required = true) @PathVariable String category) {
+        return taxonomyService.getSubtree(category);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(
+            summary = "Add a category",
+            description = "Adds a category to the taxonomy, optionally under an existing parent. Requires staff role.",
+            security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Category created successfully",
+                    content = @Content(schema = @Schema(implementation = CategoryNode.class))),
+            @ApiResponse(responseCode = "404", description = "Parent category not found"),
+            @ApiResponse(responseCode = "409", description = "Category already exists"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Staff role required")
+    })
+    public CategoryNode addCategory(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Category name and optional parent", required = true,
+                    content = @Content(schema = @Schema(implementation = CategoryNode.class)))
+            @RequestBody CategoryNode request) {
+        return taxonomyService.addCategory(request);
+    }
+}
@@ -0,0 +1,69 @@
+package ca.gbc.comp3095.wellnessresourceservice.controller;
+
+import ca.gbc.comp3095.wellnessresourceservice.dto.CompletionRollup;
+import ca.gbc.comp3095.wellnessresourceservice.event.GoalCompletedEvent;
+import ca.gbc.comp3095.wellnessresourceservice.service.GoalCompletionHistoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/resources/history")
+@RequiredArgsConstructor
+@Tag(name = "Goal Completion History", description = "APIs for historical goal completion analytics")
+public class GoalCompletionHistoryController {
+
+    private final GoalCompletionHistoryService historyService;
+
+    @GetMapping("/completions/rollup")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Get goal completion rollups",
+            description = "Retrieves goal completions per category aggregated by day, week or month for a date range."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved rollups",
+                    content = @Content(schema = @Schema(implementation = CompletionRollup.class))),
+            @ApiResponse(responseCode = "400", description = "Unsupported granularity")
+    })
+    public List<CompletionRollup> getCompletionRollups(
+            @Parameter(description = "First day (inclusive)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day (inclusive)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Aggregation period (day, week, month)") @RequestParam(defaultValue = "day") String granularity,
+            @Parameter(description = "Category name") @RequestParam(required = false) String category) {
+        return historyService.getRollups(granularity, category, from, to);
+    }
+
+    @GetMapping("/completions")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Get goal completion history",
+            description = "Retrieves individual goal completions for a date range, most recent first."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved goal completions",
+                    content = @Content(schema = @Schema(implementation = GoalCompletedEvent.class)))
+    })
+    public List<GoalCompletedEvent> getCompletions(
+            @Parameter(description = "First day (inclusive)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day (inclusive)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Category name") @RequestParam(required = false) String category,
+            @Parameter(description = "Maximum number of results") @RequestParam(defaultValue = "100") int limit) {
+        return historyService.getCompletions(category, from, to, limit);
+    }
+}
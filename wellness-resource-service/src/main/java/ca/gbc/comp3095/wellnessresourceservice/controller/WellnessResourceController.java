@@ -4,6 +4,7 @@ import ca.gbc.comp3095.wellnessresourceservice.dto.WellnessResourceRequest;
 import ca.gbc.comp3095.wellnessresourceservice.model.ResourcePopularityTracker;
 import ca.gbc.comp3095.wellnessresourceservice.model.WellnessResource;
 import ca.gbc.comp3095.wellnessresourceservice.repository.ResourcePopularityRepository;
+import ca.gbc.comp3095.wellnessresourceservice.service.ResourceRankingService;
 import ca.gbc.comp3095.wellnessresourceservice.service.WellnessResourceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,6 +17,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 
@@ -27,6 +29,7 @@ public class WellnessResourceController {
 
     private final WellnessResourceService service;
     private final ResourcePopularityRepository popularityRepository;
+    private final ResourceRankingService rankingService;
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
@@ -55,22 +58,54 @@ public class WellnessResourceController {
     })
     public WellnessResource getResourceById(
             @Parameter(description = "Resource ID", required = true) @PathVariable Long id) {
-        return service.getResourceById(id)
+        WellnessResource resource = service.getResourceById(id)
                 .orElseThrow(() -> new RuntimeException("Resource not found with id: " + id));
+        rankingService.recordView(resource);
+        return resource;
+    }
+
+    @GetMapping("/{id}/similar")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Get similar resources",
+            description = "Retrieves resources with similar titles and descriptions, most similar first."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved similar resources",
+                    content = @Content(schema = @Schema(implementation = WellnessResource.class))),
+            @ApiResponse(responseCode = "400", description = "Negative limit")
+    })
+    public List<WellnessResource> getSimilarResources(
+            @Parameter(description = "Resource ID", required = true) @PathVariable Long id,
+            @Parameter(description = "Maximum number of results") @RequestParam(defaultValue = "5") int limit) {
+        if (limit < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must not be negative");
+        }
+        return service.getSimilarResources(id, limit);
     }
 
     @GetMapping("/category/{category}")
     @ResponseStatus(HttpStatus.OK)
     @Operation(
             summary = "Get resources by category",
-            description = "Retrieves all wellness resources filtered by a specific category."
+            description = "Retrieves all wellness resources filtered by a specific category. " +
+                    "Use sort=popular to get them ordered by views and goal completions, or descendants=true " +
+                    "to include every sub-category of the taxonomy."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved resources",
                     content = @Content(schema = @Schema(implementation = WellnessResource.class)))
     })
     public List<WellnessResource> getResourcesByCategory(
-            @Parameter(description = "Category name", required = true) @PathVariable String category) {
+            @Parameter(description = "Category name", required = true) @PathVariable String category,
+            @Parameter(description = "Sort order (popular)") @RequestParam(required = false) String sort,
+            @Parameter(description = "Include resources from all sub-categories") @RequestParam(defaultValue = "false") boolean descendants) {
+        if (descendants) {
+            return service.getResourcesByCategorySubtree(category);
+        }
+        if ("popular".equalsIgnoreCase(sort)) {
+            return rankingService.getRankedResources(category);
+        }
         return service.getResourcesByCategory(category);
     }
 
@@ -78,14 +113,22 @@ public class WellnessResourceController {
     @ResponseStatus(HttpStatus.OK)
     @Operation(
             summary = "Search resources by keyword",
-            description = "Searches wellness resources by a keyword matching title or description."
+            description = "Searches wellness resources by a keyword matching title or description. " +
+                    "Use fuzzy=1 or fuzzy=2 to tolerate that many typos per word; results are then ranked by closeness."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Search completed successfully",
                     content = @Content(schema = @Schema(implementation = WellnessResource.class)))
     })
     public List<WellnessResource> searchResources(
-            @Parameter(description = "Search keyword", required = true) @RequestParam String keyword) {
+            @Parameter(description = "Search keyword", required = true) @RequestParam String keyword,
+            @Parameter(description = "Maximum edit distance per word (1 or 2)") @RequestParam(required = false) Integer fuzzy) {
+        if (fuzzy != null) {
+            if (fuzzy < 1 || fuzzy > 2) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "fuzzy must be 1 or 2");
+            }
+            return service.fuzzySearch(keyword, fuzzy);
+        }
         return service.searchByKeyword(keyword);
     }
 
@@ -99,6 +142,7 @@ public class WellnessResourceController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Resource created successfully",
                     content = @Content(schema = @Schema(implementation = WellnessResource.class))),
+            @ApiResponse(responseCode = "409", description = "Near-duplicate of an existing resource (reject mode only)"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
             @ApiResponse(responseCode = "403", description = "Forbidden - Staff role required")
     })
@@ -0,0 +1,7 @@
+package ca.gbc.comp3095.wellnessresourceservice.dto;
+
+public record CategoryNode(
+        String name,
+        String parent
+) {
+}
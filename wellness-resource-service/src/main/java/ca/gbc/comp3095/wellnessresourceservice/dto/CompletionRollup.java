@@ -0,0 +1,10 @@
+package ca.gbc.comp3095.wellnessresourceservice.dto;
+
+import java.time.LocalDate;
+
+public record CompletionRollup(
+        LocalDate period,
+        String category,
+        long completions
+) {
+}
@@ -0,0 +1,44 @@
+package ca.gbc.comp3095.wellnessresourceservice.event;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.Map;
+
+/**
+ * Reads goal-completed-events in either encoding: Avro messages start with the zero magic byte,
+ * JSON ones with '{'. JSON can be refused once every producer has switched to Avro.
+ */
+@RequiredArgsConstructor
+public class GoalCompletedEventDeserializer implements Deserializer<GoalCompletedEvent> {
+
+    private final GoalCompletedEventAvroCodec avroCodec;
+    private final JsonDeserializer<GoalCompletedEvent> jsonDeserializer;
+    private final boolean acceptJson;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonDeserializer.configure(configs, isKey);
+    }
+
+    @Override
+    public GoalCompletedEvent deserialize(String topic, byte[] data) {
+        if (data == null || data.length == 0) {
+            return null;
+        }
+        if (data[0] == GoalCompletedEventAvroCodec.MAGIC_BYTE) {
+            return avroCodec.decode(data);
+        }
+        if (!acceptJson) {
+            throw new SerializationException("JSON goal completed events are no longer accepted on topic: " + topic);
+        }
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
@@ -0,0 +1,95 @@
+package ca.gbc.comp3095.wellnessresourceservice.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Burkhard-Keller tree over a vocabulary of terms, keyed by Levenshtein distance.
+ * <p>
+ * The triangle inequality lets a search skip every subtree whose edge distance falls
+ * outside {@code [d - maxDistance, d + maxDistance]}. Searches stop once the deadline
+ * passes and return whatever they have found so far.
+ */
+public class BkTree {
+
+    public record Match(String term, int distance) {
+    }
+
+    private static final class Node {
+        private final String term;
+        private final Map<Integer, Node> children = new ConcurrentHashMap<>();
+
+        private Node(String term) {
+            this.term = term;
+        }
+    }
+
+    private volatile Node root;
+
+    public synchronized boolean add(String term) {
+        if (root == null) {
+            root = new Node(term);
+            return true;
+        }
+        Node node = root;
+        while (true) {
+            int distance = distance(node.term, term);
+            if (distance == 0) {
+                return false;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(term));
+                return true;
+            }
+            node = child;
+        }
+    }
+
+    public List<Match> search(String term, int maxDistance, long deadlineNanos) {
+        List<Match> matches = new ArrayList<>();
+        Node start = root;
+        if (start == null) {
+            return matches;
+        }
+
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(start);
+        while (!pending.isEmpty() && System.nanoTime() < deadlineNanos) {
+            Node node = pending.pop();
+            int distance = distance(node.term, term);
+            if (distance <= maxDistance) {
+                matches.add(new Match(node.term, distance));
+            }
+            node.children.forEach((edge, child) -> {
+                if (edge >= distance - maxDistance && edge <= distance + maxDistance) {
+                    pending.push(child);
+                }
+            });
+        }
+        return matches;
+    }
+
+    static int distance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+}
@@ -0,0 +1,125 @@
+package ca.gbc.comp3095.wellnessresourceservice.index;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MinHash signatures bucketed with locality-sensitive hashing.
+ * <p>
+ * Each document is reduced to a set of character shingles and a fixed-size MinHash
+ * signature. The signature is split into bands and every band is hashed into a bucket,
+ * so a lookup only compares against documents that share at least one bucket.
+ */
+public class MinHashLshIndex {
+
+    public record Match(Long id, double similarity) {
+    }
+
+    private static final int SHINGLE_SIZE = 4;
+    private static final long PRIME = 2_147_483_647L;
+
+    private final int bands;
+    private final int rows;
+    private final long[] seedsA;
+    private final long[] seedsB;
+    private final Map<Long, int[]> signatures = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> buckets = new ConcurrentHashMap<>();
+
+    public MinHashLshIndex(int bands, int rows) {
+        this.bands = bands;
+        this.rows = rows;
+        Random random = new Random(42);
+        seedsA = new long[bands * rows];
+        seedsB = new long[bands * rows];
+        for (int i = 0; i < seedsA.length; i++) {
+            seedsA[i] = 1 + random.nextInt(Integer.MAX_VALUE - 1);
+            seedsB[i] = random.nextInt(Integer.MAX_VALUE);
+        }
+    }
+
+    public synchronized void put(Long id, List<String> tokens) {
+        remove(id);
+        int[] signature = signature(tokens);
+        signatures.put(id, signature);
+        for (int band = 0; band < bands; band++) {
+            buckets.computeIfAbsent(bucketKey(signature, band), key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    public synchronized void remove(Long id) {
+        int[] signature = signatures.remove(id);
+        if (signature == null) {
+            return;
+        }
+        for (int band = 0; band < bands; band++) {
+            long key = bucketKey(signature, band);
+            Set<Long> ids = buckets.get(key);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    public List<Match> findSimilar(List<String> tokens, double threshold) {
+        int[] signature = signature(tokens);
+        Set<Long> candidates = new HashSet<>();
+        for (int band = 0; band < bands; band++) {
+            candidates.addAll(buckets.getOrDefault(bucketKey(signature, band), Set.of()));
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (Long candidate : candidates) {
+            int[] other = signatures.get(candidate);
+            if (other == null) {
+                continue;
+            }
+            double similarity = estimateJaccard(signature, other);
+            if (similarity >= threshold) {
+                matches.add(new Match(candidate, similarity));
+            }
+        }
+        matches.sort(Comparator.comparingDouble(Match::similarity).reversed());
+        return matches;
+    }
+
+    private int[] signature(List<String> tokens) {
+        int[] signature = new int[bands * rows];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        String text = String.join(" ", tokens);
+        if (text.length() < SHINGLE_SIZE) {
+            text = text + " ".repeat(SHINGLE_SIZE - text.length());
+        }
+        for (int i = 0; i + SHINGLE_SIZE <= text.length(); i++) {
+            long shingle = text.substring(i, i + SHINGLE_SIZE).hashCode() & 0xffffffffL;
+            for (int h = 0; h < signature.length; h++) {
+                int value = (int) ((seedsA[h] * shingle + seedsB[h]) % PRIME);
+                if (value < signature[h]) {
+                    signature[h] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private long bucketKey(int[] signature, int band) {
+        long hash = band;
+        for (int r = band * rows; r < (band + 1) * rows; r++) {
+            hash = hash * 31 + signature[r];
+        }
+        return hash;
+    }
+
+    private static double estimateJaccard(int[] left, int[] right) {
+        int equal = 0;
+        for (int i = 0; i < left.length; i++) {
+            if (left[i] == right[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / left.length;
+    }
+}
@@ -0,0 +1,38 @@
+package ca.gbc.comp3095.wellnessresourceservice.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Splits resource titles and descriptions into lower-case word tokens for the in-memory indexes.
+ */
+public final class TextTokenizer {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "the", "and", "for", "with", "your", "you", "are", "from", "that", "this",
+            "how", "what", "into", "about", "our", "can", "will", "its", "not", "but"
+    );
+
+    private TextTokenizer() {
+    }
+
+    public static List<String> tokenize(String... texts) {
+        List<String> tokens = new ArrayList<>();
+        for (String text : texts) {
+            if (text == null || text.isBlank()) {
+                continue;
+            }
+            for (String token : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+                if (token.length() > 2 && !STOP_WORDS.contains(token)) {
+                    tokens.add(token);
+                }
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,162 @@
+package ca.gbc.comp3095.wellnessresourceservice.index;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sparse TF-IDF vectors with precomputed top-k cosine neighbours for each document.
+ * <p>
+ * Writes only recompute the neighbour lists of documents that share a term with the
+ * changed document. IDF weights of untouched documents drift slightly between full
+ * rebuilds, which is acceptable for "more like this" recommendations. A full rebuild creates
+ * a new index with {@link #build}, so the one serving lookups is never emptied.
+ */
+public class TfIdfIndex {
+
+    public record Neighbour(Long id, double score) {
+    }
+
+    private final int topK;
+    private final Map<Long, Map<String, Integer>> termCounts = new HashMap<>();
+    private final Map<Long, Map<String, Double>> vectors = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, List<Neighbour>> neighbours = new ConcurrentHashMap<>();
+
+    public TfIdfIndex(int topK) {
+        this.topK = topK;
+    }
+
+    public List<Neighbour> getNeighbours(Long id) {
+        return neighbours.getOrDefault(id, List.of());
+    }
+
+    public static TfIdfIndex build(int topK, Map<Long, List<String>> documents) {
+        TfIdfIndex index = new TfIdfIndex(topK);
+        documents.forEach(index::addTerms);
+        index.termCounts.keySet().forEach(id -> index.vectors.put(id, index.vectorize(index.termCounts.get(id))));
+        index.termCounts.keySet().forEach(id -> index.neighbours.put(id, index.computeNeighbours(id)));
+        return index;
+    }
+
+    public synchronized void upsert(Long id, List<String> tokens) {
+        Set<Long> affected = new HashSet<>();
+        if (termCounts.containsKey(id)) {
+            affected.addAll(candidates(id));
+            removeTerms(id);
+        }
+
+        addTerms(id, tokens);
+        vectors.put(id, vectorize(termCounts.get(id)));
+        Set<Long> current = candidates(id);
+        affected.addAll(current);
+        neighbours.put(id, computeNeighbours(id));
+
+        for (Long other : affected) {
+            List<Neighbour> list = neighbours.getOrDefault(other, List.of());
+            boolean listed = list.stream().anyMatch(n -> n.id().equals(id));
+            if (listed || (current.contains(other) && improves(list, cosine(id, other)))) {
+                neighbours.put(other, computeNeighbours(other));
+            }
+        }
+    }
+
+    public synchronized void remove(Long id) {
+        if (!termCounts.containsKey(id)) {
+            return;
+        }
+        Set<Long> affected = candidates(id);
+        removeTerms(id);
+        neighbours.remove(id);
+
+        for (Long other : affected) {
+            if (neighbours.getOrDefault(other, List.of()).stream().anyMatch(n -> n.id().equals(id))) {
+                neighbours.put(other, computeNeighbours(other));
+            }
+        }
+    }
+
+    private boolean improves(List<Neighbour> list, double score) {
+        return score > 0 && (list.size() < topK || score > list.get(list.size() - 1).score());
+    }
+
+    private void addTerms(Long id, List<String> tokens) {
+        Map<String, Integer> counts = new HashMap<>();
+        tokens.forEach(token -> counts.merge(token, 1, Integer::sum));
+        termCounts.put(id, counts);
+        counts.keySet().forEach(term -> postings.computeIfAbsent(term, t -> new HashSet<>()).add(id));
+    }
+
+    private void removeTerms(Long id) {
+        Map<String, Integer> counts = termCounts.remove(id);
+        vectors.remove(id);
+        counts.keySet().forEach(term -> {
+            Set<Long> ids = postings.get(term);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+    }
+
+    private Set<Long> candidates(Long id) {
+        Set<Long> result = new HashSet<>();
+        termCounts.get(id).keySet().forEach(term -> result.addAll(postings.getOrDefault(term, Set.of())));
+        result.remove(id);
+        return result;
+    }
+
+    private Map<String, Double> vectorize(Map<String, Integer> counts) {
+        int documentCount = termCounts.size();
+        Map<String, Double> vector = new HashMap<>();
+        double norm = 0;
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            int df = postings.getOrDefault(entry.getKey(), Set.of()).size();
+            double weight = entry.getValue() * (Math.log((1.0 + documentCount) / (1.0 + df)) + 1.0);
+            vector.put(entry.getKey(), weight);
+            norm += weight * weight;
+        }
+        double length = Math.sqrt(norm);
+        if (length > 0) {
+            vector.replaceAll((term, weight) -> weight / length);
+        }
+        return vector;
+    }
+
+    private double cosine(Long a, Long b) {
+        Map<String, Double> left = vectors.get(a);
+        Map<String, Double> right = vectors.get(b);
+        if (left == null || right == null) {
+            return 0;
+        }
+        if (left.size() > right.size()) {
+            Map<String, Double> swap = left;
+            left = right;
+            right = swap;
+        }
+        double dot = 0;
+        for (Map.Entry<String, Double> entry : left.entrySet()) {
+            Double weight = right.get(entry.getKey());
+            if (weight != null) {
+                dot += entry.getValue() * weight;
+            }
+        }
+        return dot;
+    }
+
+    private List<Neighbour> computeNeighbours(Long id) {
+        PriorityQueue<Neighbour> best = new PriorityQueue<>(Comparator.comparingDouble(Neighbour::score));
+        for (Long other : candidates(id)) {
+            double score = cosine(id, other);
+            if (score <= 0) {
+                continue;
+            }
+            best.offer(new Neighbour(other, score));
+            if (best.size() > topK) {
+                best.poll();
+            }
+        }
+        List<Neighbour> result = new ArrayList<>(best);
+        result.sort(Comparator.comparingDouble(Neighbour::score).reversed());
+        return List.copyOf(result);
+    }
+}
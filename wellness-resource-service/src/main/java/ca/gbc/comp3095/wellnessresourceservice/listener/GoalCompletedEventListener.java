@@ -3,12 +3,18 @@ package ca.gbc.comp3095.wellnessresourceservice.listener;
 import ca.gbc.comp3095.wellnessresourceservice.event.GoalCompletedEvent;
 import ca.gbc.comp3095.wellnessresourceservice.model.ResourcePopularityTracker;
 import ca.gbc.comp3095.wellnessresourceservice.repository.ResourcePopularityRepository;
+import ca.gbc.comp3095.wellnessresourceservice.service.GoalCompletionHistoryService;
+import ca.gbc.comp3095.wellnessresourceservice.service.ResourceRankingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Component
 @Slf4j
@@ -16,25 +22,40 @@ import java.time.LocalDateTime;
 public class GoalCompletedEventListener {
 
     private final ResourcePopularityRepository popularityRepository;
+    private final ResourceRankingService rankingService;
+    private final GoalCompletionHistoryService historyService;
 
     @KafkaListener(
             topics = "goal-completed-events",
             groupId = "wellness-resource-service-group",
             containerFactory = "kafkaListenerContainerFactory"
     )
-    public void handleGoalCompletedEvent(GoalCompletedEvent event) {
-        log.info("Received goal completed event for tracking resource popularity. Goal: {} in category: {}", 
-            event.getGoalId(), event.getCategory());
+    public void handleGoalCompletedEvents(List<GoalCompletedEvent> events) {
+        log.info("Received {} goal completed events for tracking resource popularity", events.size());
+        events.forEach(event -> log.debug("Goal: {} in category: {}", event.getGoalId(), event.getCategory()));
 
         try {
-            trackResourcePopularity(event.getCategory());
-            log.info("Successfully tracked popularity for category: {}", event.getCategory());
+            historyService.recordCompletions(events);
         } catch (Exception e) {
-            log.error("Error tracking resource popularity for goal completed event", e);
+            log.error("Error recording goal completion history for {} events", events.size(), e);
         }
+
+        Map<String, Long> completionsByCategory = events.stream()
+                .map(GoalCompletedEvent::getCategory)
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(category -> category, Collectors.counting()));
+
+        completionsByCategory.forEach((category, count) -> {
+            try {
+                trackResourcePopularity(category, count.intValue());
+                log.info("Successfully tracked popularity for category: {}", category);
+            } catch (Exception e) {
+                log.error("Error tracking resource popularity for category: {}", category, e);
+            }
+        });
     }
 
-    private void trackResourcePopularity(String category) {
+    private void trackResourcePopularity(String category, int completions) {
         ResourcePopularityTracker tracker = popularityRepository
                 .findByCategory(category)
                 .orElse(ResourcePopularityTracker.builder()
@@ -43,10 +64,11 @@ public class GoalCompletedEventListener {
                         .goalCompletionCount(0)
                         .build());
         
-        tracker.setGoalCompletionCount(tracker.getGoalCompletionCount() + 1);
+        tracker.setGoalCompletionCount(tracker.getGoalCompletionCount() + completions);
         tracker.setLastUpdated(LocalDateTime.now());
         
         popularityRepository.save(tracker);
+        rankingService.recordGoalCompletions(category, completions);
         
         log.info("Updated popularity tracker for category: {}. Total completions: {}", 
             category, tracker.getGoalCompletionCount());
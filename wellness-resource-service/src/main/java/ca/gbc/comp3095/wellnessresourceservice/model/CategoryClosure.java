@@ -0,0 +1,29 @@
+package ca.gbc.comp3095.wellnessresourceservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * One row per (ancestor, descendant) pair in the category taxonomy, including the
+ * zero-depth row linking every category to itself.
+ */
+@Entity
+@Table(name = "t_category_closure", indexes = {
+        @Index(name = "idx_category_closure_descendant", columnList = "descendant, depth")
+})
+@IdClass(CategoryClosureId.class)
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CategoryClosure {
+
+    @Id
+    private String ancestor;
+
+    @Id
+    private String descendant;
+
+    private Integer depth;
+}
@@ -0,0 +1,15 @@
+package ca.gbc.comp3095.wellnessresourceservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryClosureId implements Serializable {
+    private String ancestor;
+    private String descendant;
+}
@@ -0,0 +1,24 @@
+package ca.gbc.comp3095.wellnessresourceservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "t_resource_view_count")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ResourceViewCount {
+
+    @Id
+    private Long resourceId;
+
+    private Long viewCount;
+
+    @Column(name = "last_updated")
+    private LocalDateTime lastUpdated;
+}
@@ -0,0 +1,11 @@
+package ca.gbc.comp3095.wellnessresourceservice.repository;
+
+import ca.gbc.comp3095.wellnessresourceservice.model.CategoryClosure;
+import ca.gbc.comp3095.wellnessresourceservice.model.CategoryClosureId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface CategoryClosureRepository extends JpaRepository<CategoryClosure, CategoryClosureId> {
+    List<CategoryClosure> findByDescendant(String descendant);
+}
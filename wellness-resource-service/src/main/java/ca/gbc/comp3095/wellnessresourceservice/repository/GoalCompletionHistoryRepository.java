@@ -0,0 +1,158 @@
+package ca.gbc.comp3095.wellnessresourceservice.repository;
+
+import ca.gbc.comp3095.wellnessresourceservice.dto.CompletionRollup;
+import ca.gbc.comp3095.wellnessresourceservice.event.GoalCompletedEvent;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC access to the range-partitioned {@code goal_completion_history} table and its daily rollups.
+ * <p>
+ * The history table is declared with {@code PARTITION BY RANGE (completed_at)}, which JPA
+ * schema generation cannot express, so it is managed here instead of through an entity.
+ */
+@Repository
+@RequiredArgsConstructor
+public class GoalCompletionHistoryRepository {
+
+    private static final String TABLE = "goal_completion_history";
+    private static final String DEFAULT_PARTITION = TABLE + "_default";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void createTables() {
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS goal_completion_history (
+                    goal_id VARCHAR(64),
+                    title VARCHAR(255),
+                    category VARCHAR(100),
+                    target_date DATE,
+                    completed_at TIMESTAMP NOT NULL
+                ) PARTITION BY RANGE (completed_at)""");
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS goal_completion_history_default
+                    PARTITION OF goal_completion_history DEFAULT""");
+        // Categories are matched case-insensitively, so the index is on lower(category)
+        jdbcTemplate.execute("DROP INDEX IF EXISTS idx_goal_completion_history_category");
+        jdbcTemplate.execute("""
+                CREATE INDEX IF NOT EXISTS idx_goal_completion_history_lower_category
+                    ON goal_completion_history (lower(category), completed_at)""");
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS goal_completion_daily_rollup (
+                    day DATE NOT NULL,
+                    category VARCHAR(100) NOT NULL,
+                    completions BIGINT NOT NULL,
+                    PRIMARY KEY (day, category)
+                )""");
+    }
+
+    public boolean partitionExists(YearMonth month) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT to_regclass(?) IS NOT NULL", Boolean.class, partitionName(month)));
+    }
+
+    /**
+     * Creates the partition for {@code month} as a standalone table, moves any rows for that month
+     * out of the default partition into it and then attaches it. Postgres refuses to create a
+     * partition whose range still has rows in the default partition.
+     */
+    @Transactional
+    public void createPartition(YearMonth month) {
+        String partition = partitionName(month);
+        Timestamp from = Timestamp.valueOf(month.atDay(1).atStartOfDay());
+        Timestamp to = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+
+        jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE " + TABLE + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        jdbcTemplate.update("WITH moved AS (DELETE FROM " + DEFAULT_PARTITION
+                + " WHERE completed_at >= ? AND completed_at < ? RETURNING *)"
+                + " INSERT INTO " + partition + " SELECT * FROM moved", from, to);
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ATTACH PARTITION " + partition
+                + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+    }
+
+    public void dropPartition(String partition) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+    }
+
+    public List<String> findMonthlyPartitions() {
+        return jdbcTemplate.queryForList("""
+                SELECT child.relname
+                FROM pg_inherits
+                JOIN pg_class parent ON pg_inherits.inhparent = parent.oid
+                JOIN pg_class child ON pg_inherits.inhrelid = child.oid
+                WHERE parent.relname = ? AND child.relname ~ '_[0-9]{4}_[0-9]{2}$'
+                ORDER BY child.relname""", String.class, TABLE);
+    }
+
+    public void insertAll(List<GoalCompletedEvent> events) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO goal_completion_history (goal_id, title, category, target_date, completed_at) VALUES (?, ?, ?, ?, ?)",
+                events,
+                events.size(),
+                (ps, event) -> {
+                    ps.setString(1, event.getGoalId());
+                    ps.setString(2, event.getTitle());
+                    ps.setString(3, event.getCategory());
+                    ps.setDate(4, event.getTargetDate() != null ? Date.valueOf(event.getTargetDate()) : null);
+                    ps.setTimestamp(5, Timestamp.valueOf(event.getCompletedAt()));
+                });
+    }
+
+    public void incrementRollups(Map<LocalDate, Map<String, Long>> completionsByDay) {
+        List<Object[]> rows = new ArrayList<>();
+        completionsByDay.forEach((day, byCategory) -> byCategory.forEach((category, count) ->
+                rows.add(new Object[]{Date.valueOf(day), category, count})));
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO goal_completion_daily_rollup (day, category, completions) VALUES (?, ?, ?)
+                ON CONFLICT (day, category)
+                DO UPDATE SET completions = goal_completion_daily_rollup.completions + EXCLUDED.completions""", rows);
+    }
+
+    public List<CompletionRollup> findRollups(String granularity, String category, LocalDate from, LocalDate to) {
+        String sql = "SELECT CAST(date_trunc('" + granularity + "', day) AS DATE) AS period, category, SUM(completions) AS completions"
+                + " FROM goal_completion_daily_rollup"
+                + " WHERE day >= ? AND day < ?"
+                + (category != null ? " AND lower(category) = lower(?)" : "")
+                + " GROUP BY period, category ORDER BY period, category";
+        Object[] args = category != null
+                ? new Object[]{Date.valueOf(from), Date.valueOf(to), category}
+                : new Object[]{Date.valueOf(from), Date.valueOf(to)};
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new CompletionRollup(
+                rs.getDate("period").toLocalDate(),
+                rs.getString("category"),
+                rs.getLong("completions")), args);
+    }
+
+    public List<GoalCompletedEvent> findCompletions(String category, LocalDateTime from, LocalDateTime to, int limit) {
+        String sql = "SELECT goal_id, title, category, target_date, completed_at FROM goal_completion_history"
+                + " WHERE completed_at >= ? AND completed_at < ?"
+                + (category != null ? " AND lower(category) = lower(?)" : "")
+                + " ORDER BY completed_at DESC LIMIT ?";
+        Object[] args = category != null
+                ? new Object[]{Timestamp.valueOf(from), Timestamp.valueOf(to), category, limit}
+                : new Object[]{Timestamp.valueOf(from), Timestamp.valueOf(to), limit};
+        return jdbcTemplate.query(sql, (rs, rowNum) -> GoalCompletedEvent.builder()
+                .goalId(rs.getString("goal_id"))
+                .title(rs.getString("title"))
+                .category(rs.getString("category"))
+                .targetDate(rs.getDate("target_date") != null ? rs.getDate("target_date").toLocalDate() : null)
+                .completedAt(rs.getTimestamp("completed_at").toLocalDateTime())
+                .eventType("GOAL_COMPLETED")
+                .build(), args);
+    }
+
+    public static String partitionName(YearMonth month) {
+        return String.format("%s_%04d_%02d", TABLE, month.getYear(), month.getMonthValue());
+    }
+}
@@ -0,0 +1,7 @@
+package ca.gbc.comp3095.wellnessresourceservice.repository;
+
+import ca.gbc.comp3095.wellnessresourceservice.model.ResourceViewCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ResourceViewCountRepository extends JpaRepository<ResourceViewCount, Long> {
+}
@@ -2,6 +2,15 @@ package ca.gbc.comp3095.wellnessresourceservice.repository;
 
 import ca.gbc.comp3095.wellnessresourceservice.model.WellnessResource;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface WellnessResourceRepository extends JpaRepository<WellnessResource, Long> {
-}
\ No newline at end of file
+    List<WellnessResource> findByCategoryIgnoreCase(String category);
+
+    @Query("select r from WellnessResource r where lower(r.category) in :categories")
+    List<WellnessResource> findByLowerCategoryIn(@Param("categories") Collection<String> categories);
+}
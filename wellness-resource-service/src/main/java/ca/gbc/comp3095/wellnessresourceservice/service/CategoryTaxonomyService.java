@@ -0,0 +1,95 @@
+package ca.gbc.comp3095.wellnessresourceservice.service;
+
+import ca.gbc.comp3095.wellnessresourceservice.dto.CategoryNode;
+import ca.gbc.comp3095.wellnessresourceservice.model.CategoryClosure;
+import ca.gbc.comp3095.wellnessresourceservice.repository.CategoryClosureRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.*;
+
+/**
+ * Category hierarchy stored as a closure table and mirrored fully in memory.
+ * <p>
+ * Category names are matched case-insensitively, the same way resources are grouped
+ * by {@code WellnessResource.category}.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CategoryTaxonomyService {
+
+    private final CategoryClosureRepository closureRepository;
+
+    private volatile Map<String, Set<String>> descendantsByAncestor = Map.of();
+    private volatile Map<String, String> parentByCategory = Map.of();
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${resources.taxonomy.reload-interval-ms:300000}")
+    public void reload() {
+        Map<String, Set<String>> descendants = new HashMap<>();
+        Map<String, String> parents = new HashMap<>();
+        for (CategoryClosure row : closureRepository.findAll()) {
+            descendants.computeIfAbsent(row.getAncestor(), a -> new HashSet<>()).add(row.getDescendant());
+            if (row.getDepth() == 1) {
+                parents.put(row.getDescendant(), row.getAncestor());
+            }
+        }
+        descendants.replaceAll((ancestor, set) -> Set.copyOf(set));
+        descendantsByAncestor = Map.copyOf(descendants);
+        parentByCategory = Map.copyOf(parents);
+        log.debug("Loaded category taxonomy with {} categories", descendants.size());
+    }
+
+    public Set<String> getSubtree(String category) {
+        String key = normalize(category);
+        return descendantsByAncestor.getOrDefault(key, Set.of(key));
+    }
+
+    public List<CategoryNode> getCategories() {
+        return descendantsByAncestor.keySet().stream()
+                .sorted()
+                .map(name -> new CategoryNode(name, parentByCategory.get(name)))
+                .toList();
+    }
+
+    @Transactional
+    @CacheEvict(value = "resourcesBySubtree", allEntries = true)
+    public CategoryNode addCategory(CategoryNode request) {
+        String name = normalize(request.name());
+        String parent = request.parent() != null && !request.parent().isBlank() ? normalize(request.parent()) : null;
+        log.info("Adding category: {} under parent: {}", name, parent);
+
+        if (descendantsByAncestor.containsKey(name)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Category already exists: " + name);
+        }
+
+        List<CategoryClosure> rows = new ArrayList<>();
+        rows.add(CategoryClosure.builder().ancestor(name).descendant(name).depth(0).build());
+        if (parent != null) {
+            List<CategoryClosure> parentAncestors = closureRepository.findByDescendant(parent);
+            if (parentAncestors.isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Parent category not found: " + parent);
+            }
+            parentAncestors.forEach(row -> rows.add(CategoryClosure.builder()
+                    .ancestor(row.getAncestor())
+                    .descendant(name)
+                    .depth(row.getDepth() + 1)
+                    .build()));
+        }
+        closureRepository.saveAll(rows);
+        reload();
+
+        return new CategoryNode(name, parent);
+    }
+
+    // Also builds the resourcesBySubtree cache key, so every spelling of a category shares one entry
+    public static String normalize(String category) {
+        return category.trim().toLowerCase(Locale.ROOT);
+    }
+}
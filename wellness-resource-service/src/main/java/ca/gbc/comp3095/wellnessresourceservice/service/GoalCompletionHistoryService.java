@@ -0,0 +1,108 @@
+package ca.gbc.comp3095.wellnessresourceservice.service;
+
+import ca.gbc.comp3095.wellnessresourceservice.dto.CompletionRollup;
+import ca.gbc.comp3095.wellnessresourceservice.event.GoalCompletedEvent;
+import ca.gbc.comp3095.wellnessresourceservice.repository.GoalCompletionHistoryRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+
+/**
+ * Appends goal completions to the monthly-partitioned history table and keeps the daily rollups in step.
+ * <p>
+ * Partitions are created {@code resources.history.months-ahead} months in advance and
+ * dropped once they are older than {@code resources.history.retention-months}; anything
+ * outside that window lands in the default partition.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class GoalCompletionHistoryService {
+
+    private static final Set<String> GRANULARITIES = Set.of("day", "week", "month");
+
+    private final GoalCompletionHistoryRepository historyRepository;
+
+    @Value("${resources.history.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${resources.history.retention-months:24}")
+    private int retentionMonths;
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${resources.history.maintenance-interval-ms:86400000}")
+    public void maintainPartitions() {
+        historyRepository.createTables();
+
+        // Each partition is handled on its own so one failure does not stop the rest of the run
+        YearMonth current = YearMonth.now();
+        for (int i = -1; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (historyRepository.partitionExists(month)) {
+                continue;
+            }
+            try {
+                historyRepository.createPartition(month);
+                log.info("Created goal completion history partition for {}", month);
+            } catch (RuntimeException e) {
+                log.error("Failed to create goal completion history partition for {}", month, e);
+            }
+        }
+
+        String oldestKept = GoalCompletionHistoryRepository.partitionName(current.minusMonths(retentionMonths));
+        for (String partition : historyRepository.findMonthlyPartitions()) {
+            if (partition.compareTo(oldestKept) < 0) {
+                try {
+                    historyRepository.dropPartition(partition);
+                    log.info("Dropped expired goal completion history partition: {}", partition);
+                } catch (RuntimeException e) {
+                    log.error("Failed to drop goal completion history partition: {}", partition, e);
+                }
+            }
+        }
+    }
+
+    @Transactional
+    public void recordCompletions(List<GoalCompletedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Map<LocalDate, Map<String, Long>> completionsByDay = new HashMap<>();
+        for (GoalCompletedEvent event : events) {
+            if (event.getCompletedAt() == null) {
+                event.setCompletedAt(LocalDateTime.now());
+            }
+            if (event.getCategory() != null) {
+                completionsByDay
+                        .computeIfAbsent(event.getCompletedAt().toLocalDate(), day -> new HashMap<>())
+                        .merge(event.getCategory(), 1L, Long::sum);
+            }
+        }
+
+        historyRepository.insertAll(events);
+        historyRepository.incrementRollups(completionsByDay);
+        log.info("Recorded {} goal completions in history", events.size());
+    }
+
+    public List<CompletionRollup> getRollups(String granularity, String category, LocalDate from, LocalDate to) {
+        String unit = granularity.toLowerCase(Locale.ROOT);
+        if (!GRANULARITIES.contains(unit)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "granularity must be one of " + GRANULARITIES);
+        }
+        return historyRepository.findRollups(unit, category, from, to.plusDays(1));
+    }
+
+    public List<GoalCompletedEvent> getCompletions(String category, LocalDate from, LocalDate to, int limit) {
+        return historyRepository.findCompletions(category, from.atStartOfDay(), to.plusDays(1).atStartOfDay(), limit);
+    }
+}
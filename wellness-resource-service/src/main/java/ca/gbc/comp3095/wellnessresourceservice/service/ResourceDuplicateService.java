@@ -0,0 +1,101 @@
+package ca.gbc.comp3095.wellnessresourceservice.service;
+
+import ca.gbc.comp3095.wellnessresourceservice.index.MinHashLshIndex;
+import ca.gbc.comp3095.wellnessresourceservice.index.TextTokenizer;
+import ca.gbc.comp3095.wellnessresourceservice.model.WellnessResource;
+import ca.gbc.comp3095.wellnessresourceservice.repository.WellnessResourceRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Detects near-duplicate resources with a MinHash/LSH index over title and description.
+ * <p>
+ * With {@code resources.duplicates.mode=reject} new near-duplicates are refused,
+ * with {@code flag} they are logged and still created.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ResourceDuplicateService {
+
+    private final WellnessResourceRepository repository;
+
+    @Value("${resources.duplicates.mode:flag}")
+    private String mode;
+
+    @Value("${resources.duplicates.threshold:0.8}")
+    private double threshold;
+
+    @Value("${resources.duplicates.bands:16}")
+    private int bands;
+
+    @Value("${resources.duplicates.rows:4}")
+    private int rows;
+
+    private volatile MinHashLshIndex index;
+
+    // Guards swapping the index; changes made while a rebuild is running are replayed onto the new one
+    private final Object swapLock = new Object();
+    private List<Consumer<MinHashLshIndex>> changesDuringRebuild;
+
+    @PostConstruct
+    void init() {
+        index = new MinHashLshIndex(bands, rows);
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${resources.duplicates.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        synchronized (swapLock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+        // Lookups keep using the current index until the new one is complete
+        List<WellnessResource> resources = repository.findAll();
+        MinHashLshIndex rebuilt = new MinHashLshIndex(bands, rows);
+        resources.forEach(resource -> rebuilt.put(resource.getResourceId(), tokenize(resource)));
+        synchronized (swapLock) {
+            changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+            changesDuringRebuild = null;
+            index = rebuilt;
+        }
+        log.info("Rebuilt duplicate index for {} resources", resources.size());
+    }
+
+    public boolean isRejectMode() {
+        return "reject".equalsIgnoreCase(mode);
+    }
+
+    public List<MinHashLshIndex.Match> findNearDuplicates(String title, String description) {
+        return index.findSimilar(TextTokenizer.tokenize(title, description), threshold);
+    }
+
+    public void index(WellnessResource resource) {
+        Long id = resource.getResourceId();
+        List<String> tokens = tokenize(resource);
+        apply(target -> target.put(id, tokens));
+    }
+
+    public void remove(Long resourceId) {
+        apply(target -> target.remove(resourceId));
+    }
+
+    private void apply(Consumer<MinHashLshIndex> change) {
+        synchronized (swapLock) {
+            change.accept(index);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        }
+    }
+
+    private static List<String> tokenize(WellnessResource resource) {
+        return TextTokenizer.tokenize(resource.getTitle(), resource.getDescription());
+    }
+}
@@ -0,0 +1,113 @@
+package ca.gbc.comp3095.wellnessresourceservice.service;
+
+import ca.gbc.comp3095.wellnessresourceservice.index.BkTree;
+import ca.gbc.comp3095.wellnessresourceservice.index.TextTokenizer;
+import ca.gbc.comp3095.wellnessresourceservice.model.WellnessResource;
+import ca.gbc.comp3095.wellnessresourceservice.repository.WellnessResourceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Typo-tolerant search over the title and description vocabulary.
+ * <p>
+ * Each query word is looked up in a BK-tree of known terms and the matching terms are
+ * mapped back to resources through an inverted index. Resources are ranked by how many
+ * query words they match and how close the matches are. Terms of deleted resources stay
+ * in the tree with no postings until the next periodic rebuild.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ResourceFuzzySearchService {
+
+    private final WellnessResourceRepository repository;
+
+    @Value("${resources.search.fuzzy.timeout-ms:50}")
+    private long timeoutMs;
+
+    @Value("${resources.search.fuzzy.max-results:50}")
+    private int maxResults;
+
+    private volatile BkTree vocabulary = new BkTree();
+    private volatile Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> termsByResource = new ConcurrentHashMap<>();
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${resources.search.fuzzy.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        List<WellnessResource> resources = repository.findAll();
+        BkTree tree = new BkTree();
+        Map<String, Set<Long>> index = new ConcurrentHashMap<>();
+        termsByResource.clear();
+        for (WellnessResource resource : resources) {
+            Set<String> terms = terms(resource);
+            termsByResource.put(resource.getResourceId(), terms);
+            terms.forEach(term -> {
+                tree.add(term);
+                index.computeIfAbsent(term, t -> ConcurrentHashMap.newKeySet()).add(resource.getResourceId());
+            });
+        }
+        vocabulary = tree;
+        postings = index;
+        log.info("Rebuilt fuzzy search vocabulary with {} terms", index.size());
+    }
+
+    public synchronized void index(WellnessResource resource) {
+        remove(resource.getResourceId());
+        Set<String> terms = terms(resource);
+        termsByResource.put(resource.getResourceId(), terms);
+        terms.forEach(term -> {
+            vocabulary.add(term);
+            postings.computeIfAbsent(term, t -> ConcurrentHashMap.newKeySet()).add(resource.getResourceId());
+        });
+    }
+
+    public synchronized void remove(Long resourceId) {
+        Set<String> terms = termsByResource.remove(resourceId);
+        if (terms == null) {
+            return;
+        }
+        terms.forEach(term -> {
+            Set<Long> ids = postings.get(term);
+            if (ids != null) {
+                ids.remove(resourceId);
+            }
+        });
+    }
+
+    public List<Long> search(String keyword, int maxDistance) {
+        long deadline = System.nanoTime() + timeoutMs * 1_000_000;
+        List<String> queryTerms = TextTokenizer.tokenize(keyword);
+        Map<Long, Integer> scores = new HashMap<>();
+
+        for (String queryTerm : new LinkedHashSet<>(queryTerms)) {
+            Map<Long, Integer> best = new HashMap<>();
+            for (BkTree.Match match : vocabulary.search(queryTerm, maxDistance, deadline)) {
+                for (Long resourceId : postings.getOrDefault(match.term(), Set.of())) {
+                    best.merge(resourceId, maxDistance + 1 - match.distance(), Math::max);
+                }
+            }
+            best.forEach((resourceId, score) -> scores.merge(resourceId, score, Integer::sum));
+        }
+
+        if (System.nanoTime() >= deadline) {
+            log.warn("Fuzzy search for '{}' hit the {} ms budget, returning partial results", keyword, timeoutMs);
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(maxResults)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private static Set<String> terms(WellnessResource resource) {
+        return new HashSet<>(TextTokenizer.tokenize(resource.getTitle(), resource.getDescription()));
+    }
+}
@@ -0,0 +1,195 @@
+package ca.gbc.comp3095.wellnessresourceservice.service;
+
+import ca.gbc.comp3095.wellnessresourceservice.model.ResourcePopularityTracker;
+import ca.gbc.comp3095.wellnessresourceservice.model.ResourceViewCount;
+import ca.gbc.comp3095.wellnessresourceservice.model.WellnessResource;
+import ca.gbc.comp3095.wellnessresourceservice.repository.ResourcePopularityRepository;
+import ca.gbc.comp3095.wellnessresourceservice.repository.ResourceViewCountRepository;
+import ca.gbc.comp3095.wellnessresourceservice.repository.WellnessResourceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps a popularity-ordered copy of every category's resources in memory.
+ * <p>
+ * Views and goal completions are buffered as deltas and only trigger a re-rank of a
+ * category once they cross {@code resources.ranking.refresh-threshold}, so sorting is
+ * paid once per refresh instead of on every {@code sort=popular} request. Creating, updating
+ * or deleting a resource drops its category's ranking at once, so the next request re-ranks it.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ResourceRankingService {
+
+    private final WellnessResourceRepository resourceRepository;
+    private final ResourceViewCountRepository viewCountRepository;
+    private final ResourcePopularityRepository popularityRepository;
+
+    @Value("${resources.ranking.view-weight:1.0}")
+    private double viewWeight;
+
+    @Value("${resources.ranking.completion-weight:5.0}")
+    private double completionWeight;
+
+    @Value("${resources.ranking.refresh-threshold:10}")
+    private long refreshThreshold;
+
+    private final Map<String, List<WellnessResource>> rankedByCategory = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> pendingChangesByCategory = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    private final Map<Long, String> pendingViewCategories = new ConcurrentHashMap<>();
+    // Bumped on every invalidation, so a ranking computed from an older read is not cached
+    private final Map<String, Long> invalidations = new ConcurrentHashMap<>();
+
+    public List<WellnessResource> getRankedResources(String category) {
+        String key = normalize(category);
+        List<WellnessResource> ranked = rankedByCategory.get(key);
+        if (ranked == null) {
+            ranked = rank(key);
+        }
+        return ranked;
+    }
+
+    public void recordView(WellnessResource resource) {
+        if (resource.getResourceId() == null || resource.getCategory() == null) {
+            return;
+        }
+        pendingViews.computeIfAbsent(resource.getResourceId(), id -> new LongAdder()).increment();
+        pendingViewCategories.put(resource.getResourceId(), resource.getCategory());
+        recordChange(resource.getCategory(), 1);
+    }
+
+    public void recordGoalCompletions(String category, long count) {
+        if (category != null) {
+            recordChange(category, count);
+        }
+    }
+
+    public void invalidate(String category) {
+        if (category != null) {
+            rankedByCategory.compute(normalize(category), (key, ranked) -> {
+                invalidations.merge(key, 1L, Long::sum);
+                return null;
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${resources.ranking.refresh-interval-ms:30000}")
+    public void refreshRankings() {
+        flushPendingViews();
+
+        Set<String> toRefresh = new HashSet<>();
+        pendingChangesByCategory.forEach((category, changes) -> {
+            if (changes.sum() >= refreshThreshold) {
+                toRefresh.add(category);
+            }
+        });
+
+        toRefresh.forEach(category -> {
+            pendingChangesByCategory.remove(category);
+            if (rankedByCategory.containsKey(category)) {
+                rank(category);
+            }
+        });
+
+        if (!toRefresh.isEmpty()) {
+            log.info("Refreshed popularity rankings for {} categories", toRefresh.size());
+        }
+    }
+
+    private List<WellnessResource> rank(String category) {
+        long invalidated = invalidations.getOrDefault(category, 0L);
+        List<WellnessResource> resources = resourceRepository.findByCategoryIgnoreCase(category);
+        Map<Long, Long> views = viewCountRepository
+                .findAllById(resources.stream().map(WellnessResource::getResourceId).toList())
+                .stream()
+                .collect(Collectors.toMap(ResourceViewCount::getResourceId, ResourceViewCount::getViewCount));
+        long completions = popularityRepository.findAllByCategoryIgnoreCase(category).stream()
+                .mapToLong(tracker -> tracker.getGoalCompletionCount() != null ? tracker.getGoalCompletionCount() : 0)
+                .sum();
+
+        // Completions are only tracked per category, so they weigh every resource in the
+        // category equally; views are what order resources within a single category.
+        Function<WellnessResource, Double> score = resource ->
+                viewWeight * views.getOrDefault(resource.getResourceId(), 0L) + completionWeight * completions;
+
+        List<WellnessResource> ranked = resources.stream()
+                .sorted(Comparator.comparing(score).reversed()
+                        .thenComparing(WellnessResource::getResourceId))
+                .toList();
+
+        rankedByCategory.compute(category, (key, cached) ->
+                invalidations.getOrDefault(key, 0L) == invalidated ? ranked : cached);
+        log.debug("Ranked {} resources for category: {}", ranked.size(), category);
+        return ranked;
+    }
+
+    private void recordChange(String category, long count) {
+        pendingChangesByCategory.computeIfAbsent(normalize(category), c -> new LongAdder()).add(count);
+    }
+
+    private void flushPendingViews() {
+        if (pendingViews.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long resourceId : new ArrayList<>(pendingViews.keySet())) {
+            LongAdder adder = pendingViews.remove(resourceId);
+            if (adder != null) {
+                deltas.put(resourceId, adder.sum());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, ResourceViewCount> counts = viewCountRepository.findAllById(deltas.keySet()).stream()
+                .collect(Collectors.toMap(ResourceViewCount::getResourceId, Function.identity()));
+        Map<String, Long> categoryDeltas = new HashMap<>();
+
+        deltas.forEach((resourceId, delta) -> {
+            ResourceViewCount count = counts.computeIfAbsent(resourceId, id -> ResourceViewCount.builder()
+                    .resourceId(id)
+                    .viewCount(0L)
+                    .build());
+            count.setViewCount(count.getViewCount() + delta);
+            count.setLastUpdated(now);
+
+            String category = pendingViewCategories.remove(resourceId);
+            if (category != null) {
+                categoryDeltas.merge(category, delta, Long::sum);
+            }
+        });
+        viewCountRepository.saveAll(counts.values());
+
+        List<ResourcePopularityTracker> trackers = new ArrayList<>();
+        categoryDeltas.forEach((category, delta) -> {
+            ResourcePopularityTracker tracker = popularityRepository.findByCategory(category)
+                    .orElse(ResourcePopularityTracker.builder()
+                            .category(category)
+                            .viewCount(0)
+                            .goalCompletionCount(0)
+                            .build());
+            tracker.setViewCount(tracker.getViewCount() + delta.intValue());
+            tracker.setLastUpdated(now);
+            trackers.add(tracker);
+        });
+        popularityRepository.saveAll(trackers);
+
+        log.debug("Flushed view counts for {} resources", deltas.size());
+    }
+
+    private static String normalize(String category) {
+        return category.toLowerCase(Locale.ROOT);
+    }
+}
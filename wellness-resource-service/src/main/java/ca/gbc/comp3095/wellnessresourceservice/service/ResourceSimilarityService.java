@@ -0,0 +1,94 @@
+package ca.gbc.comp3095.wellnessresourceservice.service;
+
+import ca.gbc.comp3095.wellnessresourceservice.index.TextTokenizer;
+import ca.gbc.comp3095.wellnessresourceservice.index.TfIdfIndex;
+import ca.gbc.comp3095.wellnessresourceservice.model.WellnessResource;
+import ca.gbc.comp3095.wellnessresourceservice.repository.WellnessResourceRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Serves "more like this" lookups from precomputed TF-IDF neighbour lists.
+ * <p>
+ * The index is rebuilt from the database at startup and periodically, and updated
+ * incrementally as resources are created, updated and deleted on this instance. A rebuild
+ * builds a new index beside the live one and swaps it in once complete.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ResourceSimilarityService {
+
+    private final WellnessResourceRepository repository;
+
+    @Value("${resources.similarity.top-k:10}")
+    private int topK;
+
+    private volatile TfIdfIndex index;
+
+    // Guards swapping the index; changes made while a rebuild is running are replayed onto the new one
+    private final Object swapLock = new Object();
+    private List<Consumer<TfIdfIndex>> changesDuringRebuild;
+
+    @PostConstruct
+    void init() {
+        index = new TfIdfIndex(topK);
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${resources.similarity.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        synchronized (swapLock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+        // Lookups keep using the current index until the new one is complete
+        Map<Long, List<String>> documents = new HashMap<>();
+        repository.findAll().forEach(resource -> documents.put(resource.getResourceId(), tokenize(resource)));
+        TfIdfIndex rebuilt = TfIdfIndex.build(topK, documents);
+        synchronized (swapLock) {
+            changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+            changesDuringRebuild = null;
+            index = rebuilt;
+        }
+        log.info("Rebuilt similarity index for {} resources", documents.size());
+    }
+
+    public void index(WellnessResource resource) {
+        Long id = resource.getResourceId();
+        List<String> tokens = tokenize(resource);
+        apply(target -> target.upsert(id, tokens));
+    }
+
+    public void remove(Long resourceId) {
+        apply(target -> target.remove(resourceId));
+    }
+
+    public List<Long> getSimilarResourceIds(Long resourceId, int limit) {
+        return index.getNeighbours(resourceId).stream()
+                .limit(limit)
+                .map(TfIdfIndex.Neighbour::id)
+                .toList();
+    }
+
+    private void apply(Consumer<TfIdfIndex> change) {
+        synchronized (swapLock) {
+            change.accept(index);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        }
+    }
+
+    private static List<String> tokenize(WellnessResource resource) {
+        return TextTokenizer.tokenize(resource.getTitle(), resource.getDescription());
+    }
+}
@@ -14,8 +14,14 @@ public interface WellnessResourceService {
 
     List<WellnessResource> getResourcesByCategory(String category);
 
+    List<WellnessResource> getResourcesByCategorySubtree(String category);
+
     List<WellnessResource> searchByKeyword(String keyword);
 
+    List<WellnessResource> fuzzySearch(String keyword, int maxDistance);
+
+    List<WellnessResource> getSimilarResources(Long id, int limit);
+
     WellnessResource createResource(WellnessResourceRequest request);
 
     WellnessResource updateResource(Long id, WellnessResourceRequest request);
@@ -1,6 +1,7 @@
 package ca.gbc.comp3095.wellnessresourceservice.service;
 
 import ca.gbc.comp3095.wellnessresourceservice.dto.WellnessResourceRequest;
+import ca.gbc.comp3095.wellnessresourceservice.index.MinHashLshIndex;
 import ca.gbc.comp3095.wellnessresourceservice.model.WellnessResource;
 import ca.gbc.comp3095.wellnessresourceservice.repository.WellnessResourceRepository;
 import jakarta.transaction.Transactional;
@@ -9,10 +10,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,6 +29,11 @@ import java.util.stream.Collectors;
 public class WellnessResourceServiceImpl implements WellnessResourceService {
 
     private final WellnessResourceRepository repository;
+    private final ResourceRankingService rankingService;
+    private final ResourceSimilarityService similarityService;
+    private final ResourceDuplicateService duplicateService;
+    private final ResourceFuzzySearchService fuzzySearchService;
+    private final CategoryTaxonomyService taxonomyService;
 
     @Override
     @Cacheable(value = "resources", key = "'all'")
@@ -46,6 +58,15 @@ public class WellnessResourceServiceImpl implements WellnessResourceService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Cacheable(value = "resourcesBySubtree",
+            key = "T(ca.gbc.comp3095.wellnessresourceservice.service.CategoryTaxonomyService).normalize(#category)")
+    public List<WellnessResource> getResourcesByCategorySubtree(String category) {
+        Set<String> categories = taxonomyService.getSubtree(category);
+        log.info("Fetching resources for category subtree: {} ({} categories) from database", category, categories.size());
+        return repository.findByLowerCategoryIn(categories);
+    }
+
     @Override
     public List<WellnessResource> searchByKeyword(String keyword) {
         log.info("Searching resources with keyword: {}", keyword);
@@ -55,10 +76,32 @@ public class WellnessResourceServiceImpl implements WellnessResourceService {
     }
 
     @Override
-    @CacheEvict(value = {"resources", "resourcesByCategory"}, allEntries = true)
+    public List<WellnessResource> getSimilarResources(Long id, int limit) {
+        log.info("Fetching up to {} resources similar to id: {}", limit, id);
+        return findAllInOrder(similarityService.getSimilarResourceIds(id, limit));
+    }
+
+    @Override
+    public List<WellnessResource> fuzzySearch(String keyword, int maxDistance) {
+        log.info("Fuzzy searching resources with keyword: {} (max distance {})", keyword, maxDistance);
+        return findAllInOrder(fuzzySearchService.search(keyword, maxDistance));
+    }
+
+    @Override
+    @CacheEvict(value = {"resources", "resourcesByCategory", "resourcesBySubtree"}, allEntries = true)
     public WellnessResource createResource(WellnessResourceRequest request) {
         log.info("Creating new resource: {}", request.title());
 
+        List<MinHashLshIndex.Match> duplicates = duplicateService.findNearDuplicates(request.title(), request.description());
+        if (!duplicates.isEmpty()) {
+            List<Long> duplicateIds = duplicates.stream().map(MinHashLshIndex.Match::id).toList();
+            if (duplicateService.isRejectMode()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "Resource is a near-duplicate of existing resources: " + duplicateIds);
+            }
+            log.warn("Resource '{}' looks like a near-duplicate of existing resources: {}", request.title(), duplicateIds);
+        }
+
         WellnessResource resource = WellnessResource.builder()
                 .title(request.title())
                 .description(request.description())
@@ -66,29 +109,54 @@ public class WellnessResourceServiceImpl implements WellnessResourceService {
                 .url(request.url())
                 .build();
 
-        return repository.save(resource);
+        WellnessResource saved = repository.save(resource);
+        rankingService.invalidate(saved.getCategory());
+        similarityService.index(saved);
+        duplicateService.index(saved);
+        fuzzySearchService.index(saved);
+        return saved;
     }
 
     @Override
     @CachePut(value = "resources", key = "#id")
-    @CacheEvict(value = "resourcesByCategory", allEntries = true)
+    @CacheEvict(value = {"resourcesByCategory", "resourcesBySubtree"}, allEntries = true)
     public WellnessResource updateResource(Long id, WellnessResourceRequest request) {
         log.info("Updating resource with id: {}", id);
         WellnessResource resource = repository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Resource not found with id: " + id));
 
+        rankingService.invalidate(resource.getCategory());
+        rankingService.invalidate(request.category());
+
         resource.setTitle(request.title());
         resource.setDescription(request.description());
         resource.setCategory(request.category());
         resource.setUrl(request.url());
 
-        return repository.save(resource);
+        WellnessResource saved = repository.save(resource);
+        similarityService.index(saved);
+        duplicateService.index(saved);
+        fuzzySearchService.index(saved);
+        return saved;
     }
 
     @Override
-    @CacheEvict(value = {"resources", "resourcesByCategory"}, allEntries = true)
+    @CacheEvict(value = {"resources", "resourcesByCategory", "resourcesBySubtree"}, allEntries = true)
     public void deleteResource(Long id) {
         log.info("Deleting resource with id: {}", id);
+        repository.findById(id).ifPresent(resource -> rankingService.invalidate(resource.getCategory()));
         repository.deleteById(id);
+        similarityService.remove(id);
+        duplicateService.remove(id);
+        fuzzySearchService.remove(id);
+    }
+
+    private List<WellnessResource> findAllInOrder(List<Long> ids) {
+        Map<Long, WellnessResource> resources = repository.findAllById(ids).stream()
+                .collect(Collectors.toMap(WellnessResource::getResourceId, Function.identity()));
+        return ids.stream()
+                .map(resources::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 }
\ No newline at end of file
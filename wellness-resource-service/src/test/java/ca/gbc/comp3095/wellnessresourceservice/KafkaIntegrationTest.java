@@ -1,9 +1,12 @@
 package ca.gbc.comp3095.wellnessresourceservice;
 
+import ca.gbc.comp3095.wellnessresourceservice.dto.CompletionRollup;
 import ca.gbc.comp3095.wellnessresourceservice.event.GoalCompletedEvent;
 import ca.gbc.comp3095.wellnessresourceservice.listener.GoalCompletedEventListener;
 import ca.gbc.comp3095.wellnessresourceservice.model.ResourcePopularityTracker;
+import ca.gbc.comp3095.wellnessresourceservice.repository.GoalCompletionHistoryRepository;
 import ca.gbc.comp3095.wellnessresourceservice.repository.ResourcePopularityRepository;
+import ca.gbc.comp3095.wellnessresourceservice.service.GoalCompletionHistoryService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.apache.kafka.clients.producer.ProducerConfig;
@@ -14,6 +17,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
@@ -30,7 +34,9 @@ import org.testcontainers.utility.DockerImageName;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -92,6 +98,15 @@ class KafkaIntegrationTest {
     @Autowired
     private GoalCompletedEventListener eventListener;
 
+    @Autowired
+    private GoalCompletionHistoryService historyService;
+
+    @Autowired
+    private GoalCompletionHistoryRepository historyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @BeforeEach
     void setUp() {
         popularityRepository.deleteAll();
@@ -163,5 +178,74 @@ class KafkaIntegrationTest {
             assertThat(tracker.get().getGoalCompletionCount()).isEqualTo(2);
         });
     }
-}
 
+    @Test
+    void testGoalCompletedEventIsRecordedInHistory() {
+        String category = "history-test";
+
+        GoalCompletedEvent goalEvent = GoalCompletedEvent.builder()
+                .goalId("goal-history-1")
+                .title("Journal Daily")
+                .category(category)
+                .targetDate(LocalDate.now().plusMonths(1))
+                .completedAt(LocalDateTime.now())
+                .eventType("GOAL_COMPLETED")
+                .build();
+
+        kafkaTemplate.send("goal-completed-events", goalEvent.getGoalId(), goalEvent);
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            List<CompletionRollup> rollups = historyService.getRollups(
+                    "day", category, LocalDate.now().minusDays(1), LocalDate.now());
+            assertThat(rollups).hasSize(1);
+            assertThat(rollups.get(0).completions()).isEqualTo(1);
+
+            List<GoalCompletedEvent> completions = historyService.getCompletions(
+                    category, LocalDate.now().minusDays(1), LocalDate.now(), 10);
+            assertThat(completions).extracting(GoalCompletedEvent::getGoalId).containsExactly("goal-history-1");
+        });
+    }
+
+    @Test
+    void testCompletionsAndRollupsMatchCategoryIgnoringCase() {
+        GoalCompletedEvent goalEvent = GoalCompletedEvent.builder()
+                .goalId("goal-history-case")
+                .title("Stretch Daily")
+                .category("Case-Test")
+                .completedAt(LocalDateTime.now())
+                .eventType("GOAL_COMPLETED")
+                .build();
+        historyService.recordCompletions(List.of(goalEvent));
+
+        assertThat(historyService.getRollups("day", "case-test", LocalDate.now(), LocalDate.now()))
+                .extracting(CompletionRollup::completions).containsExactly(1L);
+        assertThat(historyService.getCompletions("CASE-TEST", LocalDate.now(), LocalDate.now(), 10))
+                .extracting(GoalCompletedEvent::getGoalId).containsExactly("goal-history-case");
+    }
+
+    @Test
+    void testPartitionCreatedOverRowsInDefaultPartition() {
+        // Beyond months-ahead, so the completion lands in the default partition
+        YearMonth month = YearMonth.now().plusYears(5);
+        GoalCompletedEvent goalEvent = GoalCompletedEvent.builder()
+                .goalId("goal-history-future")
+                .title("Plan Ahead")
+                .category("partition-test")
+                .completedAt(month.atDay(10).atStartOfDay())
+                .eventType("GOAL_COMPLETED")
+                .build();
+        historyService.recordCompletions(List.of(goalEvent));
+        assertThat(historyRepository.partitionExists(month)).isFalse();
+
+        historyRepository.createPartition(month);
+
+        String partition = GoalCompletionHistoryRepository.partitionName(month);
+        assertThat(historyRepository.partitionExists(month)).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM " + partition, Long.class)).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM goal_completion_history_default WHERE goal_id = 'goal-history-future'", Long.class))
+                .isZero();
+        assertThat(historyService.getCompletions("partition-test", month.atDay(1), month.atEndOfMonth(), 10))
+                .extracting(GoalCompletedEvent::getGoalId).containsExactly("goal-history-future");
+    }
+}
@@ -117,6 +117,22 @@ class RedisCacheIntegrationTest {
         assertThat(firstCall.get(0).getResourceId()).isEqualTo(secondCall.get(0).getResourceId());
     }
 
+    @Test
+    void testSubtreeCacheKeyIsNormalized() {
+        resourceService.createResource(new WellnessResourceRequest(
+                "Fitness Resource", "Description", "fitness", "https://example.com/fitness"));
+
+        resourceService.getResourcesByCategorySubtree(" Fitness");
+        resourceService.getResourcesByCategorySubtree("FITNESS ");
+
+        // Both spellings resolve to the same subtree, so they share a single cache entry
+        var cache = cacheManager.getCache("resourcesBySubtree");
+        assertThat(cache).isNotNull();
+        assertThat(cache.get("fitness")).isNotNull();
+        assertThat(cache.get(" Fitness")).isNull();
+        assertThat(cache.get("fitness ")).isNull();
+    }
+
     @Test
     void testGetResourcesByCategoryUsesCache() {
         String category = "wellness";
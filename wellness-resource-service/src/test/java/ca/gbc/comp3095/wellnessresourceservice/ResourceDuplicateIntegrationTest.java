@@ -0,0 +1,99 @@
+package ca.gbc.comp3095.wellnessresourceservice;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.ValidatableResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "resources.duplicates.mode=reject")
+@DirtiesContext
+@Testcontainers
+class ResourceDuplicateIntegrationTest {
+
+    @ServiceConnection
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Container
+    static GenericContainer<?> redisContainer = new GenericContainer<>(DockerImageName.parse("redis:latest"))
+            .withExposedPorts(6379);
+
+    @LocalServerPort
+    private Integer port;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", redisContainer::getHost);
+        registry.add("spring.data.redis.port", () -> redisContainer.getMappedPort(6379).toString());
+        registry.add("spring.cache.type", () -> "redis");
+    }
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = port;
+    }
+
+    @Test
+    void rejectsNearDuplicateWithConflict() {
+        createResource("Box Breathing Basics", "Four second inhale, hold, exhale and hold to calm anxiety")
+                .statusCode(HttpStatus.CREATED.value());
+
+        // One word added to the description
+        createResource("Box Breathing Basics", "A four second inhale, hold, exhale and hold to calm anxiety quickly")
+                .statusCode(HttpStatus.CONFLICT.value());
+    }
+
+    @Test
+    void acceptsRewordedResourceBelowThreshold() {
+        createResource("Body Scan Relaxation",
+                "Move your attention slowly from your toes to your head to release tension before sleep")
+                .statusCode(HttpStatus.CREATED.value());
+
+        // Same description under a reworded title: estimated similarity 0.78, just under the 0.8 threshold
+        createResource("Evening Body Scan",
+                "Move your attention slowly from your toes to your head to release tension before sleep")
+                .statusCode(HttpStatus.CREATED.value());
+    }
+
+    @Test
+    void acceptsDistinctResource() {
+        createResource("Progressive Muscle Relaxation", "Tense and release each muscle group from head to toe")
+                .statusCode(HttpStatus.CREATED.value());
+
+        createResource("Hydration Tracker", "Log how many glasses of water you drink every day")
+                .statusCode(HttpStatus.CREATED.value());
+    }
+
+    private ValidatableResponse createResource(String title, String description) {
+        String requestBody = """
+                {
+                   "title": "%s",
+                   "description": "%s",
+                   "category": "mindfulness",
+                   "url": "https://example.com/resource"
+                }
+                """.formatted(title, description);
+
+        return RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body(requestBody)
+                .when()
+                .post("/api/resources")
+                .then();
+    }
+}
@@ -1,10 +1,13 @@
 package ca.gbc.comp3095.wellnessresourceservice;
 
+import ca.gbc.comp3095.wellnessresourceservice.service.ResourceRankingService;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
@@ -32,6 +35,9 @@ class WellnessResourceServiceApplicationTests {
     @LocalServerPort
     private Integer port;
 
+    @Autowired
+    private ResourceRankingService rankingService;
+
     @DynamicPropertySource
     static void configureProperties(DynamicPropertyRegistry registry) {
         registry.add("spring.data.redis.host", redisContainer::getHost);
@@ -136,6 +142,26 @@ class WellnessResourceServiceApplicationTests {
                 .body("category", Matchers.hasItem("counseling"));
     }
 
+    @Test
+    void createNearDuplicateResourceInFlagModeTest() {
+        Integer id = createResourceAndReturnId(
+                "Gratitude Journal Prompts",
+                "Daily prompts to help you write down three things you are grateful for",
+                "mindfulness",
+                "https://example.com/gratitude"
+        );
+
+        // Flag mode only logs the near-duplicate, so the copy is still created
+        Integer copyId = createResourceAndReturnId(
+                "Gratitude Journal Prompts",
+                "Daily prompts to help you write down three small things you are grateful for",
+                "mindfulness",
+                "https://example.com/gratitude-copy"
+        );
+
+        Assertions.assertNotEquals(id, copyId);
+    }
+
     // FIXED: Changed return type from Long to Integer
     private Integer createResourceAndReturnId(String title, String description, String category, String url) {
         String requestBody = """
@@ -240,4 +266,154 @@ class WellnessResourceServiceApplicationTests {
                 .statusCode(HttpStatus.OK.value())
                 .body("size()", Matchers.greaterThan(0));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getResourcesByCategorySortedByPopularityTest() {
+        Integer first = createResourceAndReturnId(
+                "Breathing Basics",
+                "Simple breathing exercises",
+                "popular-test",
+                "https://example.com/breathing"
+        );
+        Integer second = createResourceAndReturnId(
+                "Breathing Advanced",
+                "Advanced breathing exercises",
+                "popular-test",
+                "https://example.com/breathing-advanced"
+        );
+
+        // Views are buffered until the next refresh, which writes them before the category is ranked
+        for (int i = 0; i < 3; i++) {
+            RestAssured.given()
+                    .when()
+                    .get("/api/resources/" + second)
+                    .then()
+                    .statusCode(HttpStatus.OK.value());
+        }
+        rankingService.refreshRankings();
+
+        RestAssured.given()
+                .queryParam("sort", "popular")
+                .when()
+                .get("/api/resources/category/popular-test")
+                .then()
+                .log().all()
+                .statusCode(HttpStatus.OK.value())
+                .body("size()", Matchers.equalTo(2))
+                .body("resourceId", Matchers.contains(second, first));
+
+        // A new resource shows up at once rather than after the next refresh
+        Integer third = createResourceAndReturnId(
+                "Breathing for Sleep",
+                "Breathing exercises before bed",
+                "popular-test",
+                "https://example.com/breathing-sleep"
+        );
+
+        RestAssured.given()
+                .queryParam("sort", "popular")
+                .when()
+                .get("/api/resources/category/popular-test")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("resourceId", Matchers.contains(second, first, third));
+    }
+
+    @Test
+    void getSimilarResourcesTest() {
+        Integer id = createResourceAndReturnId(
+                "Mindful Journaling",
+                "Daily journaling prompts for mindful reflection",
+                "mindfulness",
+                "https://example.com/journaling"
+        );
+        Integer similarId = createResourceAndReturnId(
+                "Journaling for Reflection",
+                "Reflection prompts to build a journaling habit",
+                "mindfulness",
+                "https://example.com/journaling-habit"
+        );
+
+        RestAssured.given()
+                .when()
+                .get("/api/resources/{id}/similar", id)
+                .then()
+                .log().all()
+                .statusCode(HttpStatus.OK.value())
+                .body("resourceId", Matchers.hasItem(similarId))
+                .body("resourceId", Matchers.not(Matchers.hasItem(id)));
+
+        RestAssured.given()
+                .queryParam("limit", -1)
+                .when()
+                .get("/api/resources/{id}/similar", id)
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    void fuzzySearchResourcesTest() {
+        Integer id = createResourceAndReturnId(
+                "Meditation Essentials",
+                "Short guided sessions",
+                "mindfulness",
+                "https://example.com/meditation-essentials"
+        );
+
+        RestAssured.given()
+                .queryParam("keyword", "meditaton")
+                .queryParam("fuzzy", 1)
+                .when()
+                .get("/api/resources/search")
+                .then()
+                .log().all()
+                .statusCode(HttpStatus.OK.value())
+                .body("resourceId", Matchers.hasItem(id));
+    }
+
+    @Test
+    void getResourcesByCategoryWithDescendantsTest() {
+        RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        { "name": "mental-health" }
+                        """)
+                .when()
+                .post("/api/resources/categories")
+                .then()
+                .statusCode(HttpStatus.CREATED.value());
+
+        RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        { "name": "anxiety", "parent": "mental-health" }
+                        """)
+                .when()
+                .post("/api/resources/categories")
+                .then()
+                .statusCode(HttpStatus.CREATED.value())
+                .body("parent", Matchers.equalTo("mental-health"));
+
+        Integer parentId = createResourceAndReturnId(
+                "Mental Health Overview",
+                "Where to start",
+                "mental-health",
+                "https://example.com/mental-health"
+        );
+        Integer childId = createResourceAndReturnId(
+                "Coping with Anxiety",
+                "Grounding techniques",
+                "anxiety",
+                "https://example.com/anxiety"
+        );
+
+        RestAssured.given()
+                .queryParam("descendants", true)
+                .when()
+                .get("/api/resources/category/mental-health")
+                .then()
+                .log().all()
+                .statusCode(HttpStatus.OK.value())
+                .body("resourceId", Matchers.hasItems(parentId, childId));
+    }
+}
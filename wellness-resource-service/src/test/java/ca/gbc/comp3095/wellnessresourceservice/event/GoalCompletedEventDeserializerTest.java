@@ -0,0 +1,120 @@
+package ca.gbc.comp3095.wellnessresourceservice.event;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GoalCompletedEventDeserializerTest {
+
+    private static final String TOPIC = "goal-completed-events";
+    private static final int SCHEMA_ID = 7;
+
+    @TempDir
+    Path registryDirectory;
+
+    private Schema schema;
+    private GoalCompletedEventAvroCodec codec;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/avro/goal-completed-event.avsc")) {
+            schema = new Schema.Parser().parse(in);
+        }
+        // Laid out the way goal-tracking-service's registry writes it
+        Path subject = Files.createDirectories(registryDirectory.resolve("goal-completed-events-value"));
+        Files.writeString(subject.resolve(SCHEMA_ID + ".avsc"), schema.toString());
+        codec = new GoalCompletedEventAvroCodec(new FileSchemaRegistry(registryDirectory));
+    }
+
+    @Test
+    void decodesAvroFramedEvents() throws IOException {
+        LocalDateTime completedAt = LocalDateTime.of(2026, 4, 28, 18, 30, 15);
+        GenericRecord record = new GenericData.Record(schema);
+        record.put("goalId", "goal-1");
+        record.put("title", "Run 5K");
+        record.put("category", "fitness");
+        record.put("targetDate", (int) LocalDate.of(2026, 5, 1).toEpochDay());
+        record.put("completedAt", completedAt.toInstant(ZoneOffset.UTC).toEpochMilli());
+        record.put("eventType", "GOAL_COMPLETED");
+
+        GoalCompletedEvent event = deserializer(true).deserialize(TOPIC, frame(record));
+
+        assertThat(event.getGoalId()).isEqualTo("goal-1");
+        assertThat(event.getCategory()).isEqualTo("fitness");
+        assertThat(event.getTargetDate()).isEqualTo(LocalDate.of(2026, 5, 1));
+        assertThat(event.getCompletedAt()).isEqualTo(completedAt);
+    }
+
+    @Test
+    void fallsBackToJsonWhileJsonIsAccepted() {
+        byte[] json = """
+                {"goalId":"goal-2","title":"Sleep early","category":"sleep","targetDate":"2026-05-01","eventType":"GOAL_COMPLETED"}
+                """.getBytes(StandardCharsets.UTF_8);
+
+        GoalCompletedEvent event = deserializer(true).deserialize(TOPIC, json);
+
+        assertThat(event.getGoalId()).isEqualTo("goal-2");
+        assertThat(event.getTargetDate()).isEqualTo(LocalDate.of(2026, 5, 1));
+    }
+
+    @Test
+    void rejectsJsonOnceJsonIsNoLongerAccepted() {
+        byte[] json = "{\"goalId\":\"goal-3\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> deserializer(false).deserialize(TOPIC, json))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void rejectsUnknownSchemaIds() throws IOException {
+        GenericRecord record = new GenericData.Record(schema);
+        record.put("eventType", "GOAL_COMPLETED");
+        byte[] message = frame(record);
+        ByteBuffer.wrap(message).putInt(1, 99);
+
+        assertThatThrownBy(() -> deserializer(true).deserialize(TOPIC, message))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void emptyMessagesAreNull() {
+        assertThat(deserializer(true).deserialize(TOPIC, null)).isNull();
+        assertThat(deserializer(true).deserialize(TOPIC, new byte[0])).isNull();
+    }
+
+    private GoalCompletedEventDeserializer deserializer(boolean acceptJson) {
+        return new GoalCompletedEventDeserializer(codec, new JsonDeserializer<>(GoalCompletedEvent.class, false), acceptJson);
+    }
+
+    private byte[] frame(GenericRecord record) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(GoalCompletedEventAvroCodec.MAGIC_BYTE);
+        out.write(ByteBuffer.allocate(4).putInt(SCHEMA_ID).array());
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+        new GenericDatumWriter<GenericRecord>(schema).write(record, encoder);
+        encoder.flush();
+        return out.toByteArray();
+    }
+}
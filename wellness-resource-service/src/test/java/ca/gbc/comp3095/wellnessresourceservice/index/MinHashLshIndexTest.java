@@ -0,0 +1,79 @@
+package ca.gbc.comp3095.wellnessresourceservice.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MinHashLshIndexTest {
+
+    private static final String MEDITATION_TITLE = "Guided Meditation for Sleep";
+    private static final List<String> MEDITATION = TextTokenizer.tokenize(MEDITATION_TITLE,
+            "A calming guided meditation to help you unwind, slow your breathing and fall asleep faster after a stressful day");
+    // One word added: estimated similarity 0.94
+    private static final List<String> MEDITATION_COPY = TextTokenizer.tokenize(MEDITATION_TITLE,
+            "A calming guided meditation to help you unwind, gently slow your breathing and fall asleep faster after a stressful day");
+    // One word dropped and one replaced: estimated similarity 0.78, just under the 0.8 threshold
+    private static final List<String> MEDITATION_REWRITE = TextTokenizer.tokenize(MEDITATION_TITLE,
+            "A guided meditation to help you unwind, slow your breathing and fall asleep faster after a stressful evening");
+    private static final List<String> RUNNING = TextTokenizer.tokenize(
+            "Couch to 5K", "A nine week running plan for complete beginners");
+
+    @Test
+    void findsNearDuplicateThroughSharedBand() {
+        MinHashLshIndex index = new MinHashLshIndex(16, 4);
+        index.put(1L, MEDITATION);
+        index.put(2L, RUNNING);
+
+        List<MinHashLshIndex.Match> matches = index.findSimilar(MEDITATION_COPY, 0.8);
+
+        assertThat(matches).extracting(MinHashLshIndex.Match::id).containsExactly(1L);
+        assertThat(matches.get(0).similarity()).isGreaterThanOrEqualTo(0.8);
+    }
+
+    @Test
+    void ignoresDocumentJustBelowThreshold() {
+        MinHashLshIndex index = new MinHashLshIndex(16, 4);
+        index.put(1L, MEDITATION);
+
+        assertThat(index.findSimilar(MEDITATION_REWRITE, 0.8)).isEmpty();
+        assertThat(index.findSimilar(MEDITATION_REWRITE, 0.7)).extracting(MinHashLshIndex.Match::id).containsExactly(1L);
+    }
+
+    @Test
+    void ignoresDistinctDocuments() {
+        MinHashLshIndex index = new MinHashLshIndex(16, 4);
+        index.put(1L, MEDITATION);
+
+        assertThat(index.findSimilar(RUNNING, 0.8)).isEmpty();
+    }
+
+    @Test
+    void identicalDocumentsHaveSimilarityOne() {
+        MinHashLshIndex index = new MinHashLshIndex(16, 4);
+        index.put(1L, MEDITATION);
+
+        assertThat(index.findSimilar(MEDITATION, 0.8))
+                .containsExactly(new MinHashLshIndex.Match(1L, 1.0));
+    }
+
+    @Test
+    void removeDropsDocumentFromEveryBucket() {
+        MinHashLshIndex index = new MinHashLshIndex(16, 4);
+        index.put(1L, MEDITATION);
+        index.remove(1L);
+
+        assertThat(index.findSimilar(MEDITATION, 0.0)).isEmpty();
+    }
+
+    @Test
+    void putReplacesPreviousSignature() {
+        MinHashLshIndex index = new MinHashLshIndex(16, 4);
+        index.put(1L, MEDITATION);
+        index.put(1L, RUNNING);
+
+        assertThat(index.findSimilar(MEDITATION, 0.8)).isEmpty();
+        assertThat(index.findSimilar(RUNNING, 0.8)).extracting(MinHashLshIndex.Match::id).containsExactly(1L);
+    }
+}
@@ -0,0 +1,70 @@
+package ca.gbc.comp3095.wellnessresourceservice.service;
+
+import ca.gbc.comp3095.wellnessresourceservice.model.WellnessResource;
+import ca.gbc.comp3095.wellnessresourceservice.repository.WellnessResourceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ResourceSimilarityServiceTest {
+
+    private static final WellnessResource JOURNALING =
+            resource(1L, "Mindful Journaling", "Daily journaling prompts for mindful reflection");
+    private static final WellnessResource REFLECTION =
+            resource(2L, "Journaling for Reflection", "Reflection prompts to build a journaling habit");
+    private static final WellnessResource HABIT =
+            resource(3L, "Journaling Habit", "Build a daily journaling habit with prompts");
+
+    private final WellnessResourceRepository repository = mock(WellnessResourceRepository.class);
+    private final ResourceSimilarityService service = new ResourceSimilarityService(repository);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "topK", 10);
+        service.init();
+        service.index(JOURNALING);
+        service.index(REFLECTION);
+    }
+
+    @Test
+    void lookupsKeepTheirResultsWhileARebuildRuns() {
+        when(repository.findAll()).thenAnswer(invocation -> {
+            assertThat(service.getSimilarResourceIds(1L, 5)).containsExactly(2L);
+            return List.of(JOURNALING, REFLECTION);
+        });
+
+        service.rebuild();
+
+        assertThat(service.getSimilarResourceIds(1L, 5)).containsExactly(2L);
+    }
+
+    @Test
+    void changesMadeDuringARebuildSurviveTheSwap() {
+        // The snapshot is read before the new resource is indexed and after the old one is removed
+        when(repository.findAll()).thenAnswer(invocation -> {
+            service.index(HABIT);
+            service.remove(2L);
+            return List.of(JOURNALING, REFLECTION);
+        });
+
+        service.rebuild();
+
+        assertThat(service.getSimilarResourceIds(1L, 5)).containsExactly(3L);
+        assertThat(service.getSimilarResourceIds(2L, 5)).isEmpty();
+    }
+
+    private static WellnessResource resource(Long id, String title, String description) {
+        return WellnessResource.builder()
+                .resourceId(id)
+                .title(title)
+                .description(description)
+                .category("mindfulness")
+                .build();
+    }
+}